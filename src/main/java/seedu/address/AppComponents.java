@@ -0,0 +1,295 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Timeslots;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CommandJournalStorage;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.storage.JsonCommandJournalStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TimeslotsStorage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The config, storage, model and logic of the app, loaded from the config, preference and data files.
+ * Nothing here needs the JavaFX application toolkit, so the app can also run without a display.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Loads the config at {@code configPath}, or the default config file if it is null, and then the preferences
+     * and data it points to.
+     */
+    public static AppComponents load(Path configPath) {
+        Config config = initConfig(configPath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        // Every format and compression level is read, so changing them converts the data files when next saved
+        AddressBookStorage addressBookStorage = userPrefs.getAddressBookShardCount() > 0
+                ? new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.getAddressBookShardCount())
+                : DataFileConverter.createAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.getDataFormat(), userPrefs.getCompressionLevel());
+        TimeslotsStorage timeslotsStorage = DataFileConverter.createTimeslotsStorage(
+                userPrefs.getTimeslotsFilePath(), userPrefs.getDataFormat(), userPrefs.getCompressionLevel());
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        CommandJournalStorage commandJournalStorage = new JsonCommandJournalStorage(
+                addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ".journal"));
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage, timeslotsStorage,
+                commandJournalStorage, userPrefs.isCommandJournalEnabled());
+
+        // Load timeslots first
+        Timeslots initialTimeslots = initTimeslots(storageManager);
+
+        // Initialize model manager with address book and timeslots
+        Model model = initModelManager(storageManager, userPrefs, initialTimeslots);
+
+        // Save command results in the background from now on, so commands never wait for the disk
+        storageManager.startWriteBehind();
+
+        return new AppComponents(config, storageManager, model, new LogicManager(model, storageManager));
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} with {@code run-script}.
+     *
+     * @throws ParseException if the script could not be read or has an invalid line.
+     * @throws CommandException if a command of the script failed, so that none of its changes were kept.
+     */
+    public CommandResult runScript(Path scriptPath) throws CommandException, ParseException {
+        logger.info("Running script : " + scriptPath);
+        CommandResult result = logic.execute(RunScriptCommand.COMMAND_WORD + " " + scriptPath);
+        logger.info(result.getFeedbackToUser());
+        return result;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Any command journal left by an earlier run is then applied on top.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Timeslots timeslots) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        AddressBook addressBook = new AddressBook(readAddressBook(storage));
+        try {
+            storage.replayJournal(addressBook, timeslots);
+        } catch (DataLoadingException e) {
+            logger.warning("Command journal could not be fully applied."
+                    + " Will be starting with the changes read before the error.");
+        }
+
+        return new ModelManager(addressBook, timeslots, userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book.
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static ReadOnlyAddressBook readAddressBook(Storage storage) {
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+        return initialData;
+    }
+
+    /**
+     * Loads Timeslots from {@code storage}. If not present, populates with sample Timeslots and saves the file.
+     */
+    private static Timeslots initTimeslots(Storage storage) {
+        logger.info("Using timeslots file : " + storage.getTimeslotsFilePath());
+
+        Optional<ReadOnlyTimeslots> timeslotsOptional;
+        Timeslots initialTimeslots;
+        try {
+            timeslotsOptional = storage.readTimeslots();
+            if (!timeslotsOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getTimeslotsFilePath()
+                        + " populated with sample Timeslots.");
+                // Use sample timeslots and persist them so file is created
+                initialTimeslots = SampleDataUtil.getSampleTimeslots();
+                try {
+                    storage.saveTimeslots(initialTimeslots);
+                } catch (IOException ioe) {
+                    logger.warning("Failed to save sample timeslots to " + storage.getTimeslotsFilePath()
+                            + " : " + StringUtil.getDetails(ioe));
+                }
+            } else {
+                // Convert ReadOnlyTimeslots (if present) into a concrete Timeslots instance.
+                initialTimeslots = timeslotsOptional
+                        .map(ts -> new Timeslots(ts))
+                        .orElseGet(Timeslots::new);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getTimeslotsFilePath() + " could not be loaded."
+                    + " Will be starting with an empty Timeslots.");
+            initialTimeslots = new Timeslots();
+        }
+        return initialTimeslots;
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Saves the preferences and finishes saving the data, leaving the data files complete.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to finish saving data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.compactJournal(model.getAddressBook(), model.getTimeslots());
+        } catch (IOException e) {
+            logger.severe("Failed to save data files " + StringUtil.getDetails(e));
+        }
+    }
+}
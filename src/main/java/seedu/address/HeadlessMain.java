@@ -0,0 +1,132 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, so that batch jobs can use it on machines with no display.
+ *
+ * Usage: {@code java -cp addressbook.jar seedu.address.HeadlessMain [--config=CONFIG_FILE] [--script=SCRIPT_FILE]
+ * [COMMAND_FILE]}<br>
+ * The script is run first, as with the GUI, and nothing else is run if it fails. Each line of the command file, or
+ * of the standard input if neither a script nor a command file is given, is then executed as a separate command and
+ * its result printed.
+ * Blank lines and lines starting with # are skipped, and {@code exit} stops reading.
+ */
+public class HeadlessMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+    public static final int EXIT_USAGE = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp addressbook.jar seedu.address.HeadlessMain"
+            + " [--config=CONFIG_FILE] [--script=SCRIPT_FILE] [COMMAND_FILE]";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    private static final String NAMED_PARAMETER_MARKER = "--";
+    private static final String COMMENT_MARKER = "#";
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Loads the app as configured by {@code args}, runs its commands and saves the data.
+     *
+     * @return the exit status: {@link #EXIT_FAILURE} if the script or any command failed, {@link #EXIT_USAGE} if
+     *     {@code args} are invalid, or {@link #EXIT_SUCCESS} otherwise.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> commandFiles = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_MARKER) && separator > NAMED_PARAMETER_MARKER.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_MARKER.length(), separator),
+                        arg.substring(separator + 1));
+            } else {
+                commandFiles.add(arg);
+            }
+        }
+        if (commandFiles.size() > 1 || (commandFiles.size() == 1 && !FileUtil.isValidPath(commandFiles.get(0)))) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppComponents components = AppComponents.load(appParameters.getConfigPath());
+        components.getLogic().setSaveFailureHandler(err::println);
+        try {
+            if (appParameters.getScriptPath() != null) {
+                out.println(components.runScript(appParameters.getScriptPath()).getFeedbackToUser());
+            }
+            if (!commandFiles.isEmpty()) {
+                Path commandFile = Paths.get(commandFiles.get(0));
+                try (BufferedReader reader = Files.newBufferedReader(commandFile, StandardCharsets.UTF_8)) {
+                    return runCommands(components.getLogic(), reader, out, err);
+                }
+            } else if (appParameters.getScriptPath() == null) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+                return runCommands(components.getLogic(), reader, out, err);
+            }
+            return EXIT_SUCCESS;
+        } catch (CommandException | ParseException e) {
+            // Thrown only by the script, whose messages name it
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        } catch (IOException e) {
+            err.println("Could not read commands: " + e.getMessage());
+            return EXIT_FAILURE;
+        } finally {
+            components.stop();
+        }
+    }
+
+    /**
+     * Executes each line read from {@code reader} with {@code logic}, printing results to {@code out} and failures,
+     * with their line numbers, to {@code err}.
+     *
+     * @return {@link #EXIT_FAILURE} if any command failed, or {@link #EXIT_SUCCESS} otherwise.
+     * @throws IOException if {@code reader} could not be read.
+     */
+    static int runCommands(Logic logic, BufferedReader reader, PrintStream out, PrintStream err)
+            throws IOException {
+        int status = EXIT_SUCCESS;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                CommandResult result = logic.execute(commandText);
+                out.println(result.getFeedbackToUser());
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                status = EXIT_FAILURE;
+            }
+        }
+        return status;
+    }
+}
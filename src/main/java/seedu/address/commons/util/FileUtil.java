@@ -1,17 +1,43 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Compression level at which files are written without compression. */
+    public static final int NO_COMPRESSION = 0;
+    public static final int MAX_COMPRESSION_LEVEL = 9;
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -69,7 +95,27 @@ public class FileUtil {
      * Assumes file exists
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        try (InputStream in = openForReading(file)) {
+            return new String(in.readAllBytes(), CHARSET);
+        }
+    }
+
+    /**
+     * Returns a buffered stream of the content of {@code file}, which is decompressed if the file starts with the
+     * gzip magic number. The caller must close the stream.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isGzip = in.read() == (GZIPInputStream.GZIP_MAGIC & 0xFF)
+                    && in.read() == (GZIPInputStream.GZIP_MAGIC >>> 8);
+            in.reset();
+            return isGzip ? new GZIPInputStream(in, READ_BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
     }
 
     /**
@@ -80,4 +126,53 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, so that the file always holds either
+     * its old or its new content in full, even if the application crashes midway.
+     * The content is streamed to a temporary file next to {@code file}, forced to disk and then atomically renamed
+     * over {@code file}. Missing parent directories are created.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        writeAtomically(file, NO_COMPRESSION, writer);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but gzip-compresses the content at
+     * {@code compressionLevel}, from 1 (fastest) to {@code MAX_COMPRESSION_LEVEL} (smallest), unless it is
+     * {@code NO_COMPRESSION}. {@link #openForReading(Path)} decompresses it again.
+     */
+    public static void writeAtomically(Path file, int compressionLevel, ContentWriter writer) throws IOException {
+        if (compressionLevel < NO_COMPRESSION || compressionLevel > MAX_COMPRESSION_LEVEL) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            if (compressionLevel == NO_COMPRESSION) {
+                writer.writeTo(out);
+            } else {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, WRITE_BUFFER_SIZE) {
+                    {
+                        def.setLevel(compressionLevel);
+                    }
+                };
+                writer.writeTo(gzipOut);
+                gzipOut.finish();
+            }
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,8 +42,23 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Streams {@code objectToSerialize} as pretty-printed JSON into {@code jsonFile}, replacing it atomically.
+     * The document is never built up in memory as a whole.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Similar to {@link #serializeObjectToJsonFile(Path, Object)}, but gzip-compresses the file at
+     * {@code compressionLevel} unless it is {@code FileUtil.NO_COMPRESSION}.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, int compressionLevel)
+            throws IOException {
+        FileUtil.writeAtomically(jsonFile, compressionLevel, out -> objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,6 +95,18 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns a parser that reads the JSON file at {@code filePath} token by token, so that large files can be
+     * converted piece by piece instead of being held in memory as a whole. Values can be bound from it with
+     * {@link JsonParser#readValueAs(Class)}. A gzip-compressed file is decompressed. The caller must close the parser.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.createParser(FileUtil.openForReading(filePath));
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,6 +121,17 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but gzip-compresses the file at {@code compressionLevel}
+     * unless it is {@code FileUtil.NO_COMPRESSION}. Compressed files are read back as usual.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int compressionLevel) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, compressionLevel);
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +152,23 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * e.g. for a record in a JSON Lines file.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Streams {@code instance} to {@code out} as JSON on a single line, followed by a line break.
+     * {@code out} is left open.
+     */
+    public static <T> void writeJsonLine(OutputStream out, T instance) throws IOException {
+        objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, instance);
+        out.write('\n');
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
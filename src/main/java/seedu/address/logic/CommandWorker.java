@@ -0,0 +1,71 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs commands one at a time, in the order they were submitted, on a single background thread, so that the model
+ * has a single writer and the thread submitting them is never blocked.
+ * The outcome of each command is published through the given result executor, e.g. onto the JavaFX thread.
+ */
+public class CommandWorker {
+    private static final Logger logger = LogsCenter.getLogger(CommandWorker.class);
+
+    private final ExecutorService commandExecutor;
+    private final Executor resultExecutor;
+
+    /**
+     * Creates a {@code CommandWorker} that completes the futures it returns on {@code resultExecutor}.
+     */
+    public CommandWorker(Executor resultExecutor) {
+        requireNonNull(resultExecutor);
+        this.resultExecutor = resultExecutor;
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code task} to run after every task submitted before it.
+     *
+     * @return a future completed on the result executor with the result of {@code task}, or with the exception it
+     *     threw.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        requireNonNull(task);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                T result = task.call();
+                resultExecutor.execute(() -> future.complete(result));
+            } catch (Exception e) {
+                resultExecutor.execute(() -> future.completeExceptionally(e));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Runs the tasks already submitted and waits for them to finish. No more tasks can be submitted afterwards.
+     */
+    public void shutdown() {
+        commandExecutor.shutdown();
+        try {
+            commandExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for commands to finish");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
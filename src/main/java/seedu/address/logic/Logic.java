@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 
@@ -31,6 +33,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the timeslots.
+     *
+     * @see seedu.address.model.Model#getTimeslots()
+     */
+    ReadOnlyTimeslots getTimeslots();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -53,4 +62,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler given an error message for each save of a command's changes that fails in the background,
+     * after the command has returned. The handler is called on the thread that made the save.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
@@ -1,13 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.Collections;
-import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -17,13 +17,11 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.Week;
 import seedu.address.model.person.Person;
-import seedu.address.model.timeslot.Timeslot;
 import seedu.address.storage.Storage;
-import seedu.address.ui.TimeslotsWindow;
 
 /**
  * The main LogicManager of the app.
@@ -57,47 +55,26 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            String msg = String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
-            throw new CommandException(msg, e);
+            storage.saveChanges(model.takeUnsavedChanges(), model.getAddressBookSnapshot(),
+                    model.getAddressBookVersion(), model.getTimeslotsSnapshot(), model.getTimeslotsVersion());
         } catch (IOException ioe) {
-            String msg = String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
-            throw new CommandException(msg, ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
-        // Persist timeslots if model supports it
-        try {
-            if (model instanceof ModelManager) {
-                storage.saveTimeslots(((ModelManager) model).getTimeslots());
-            }
-        } catch (AccessDeniedException e) {
-            // wrap as CommandException with permission detail
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
+        return commandResult;
+    }
 
-        /*
-         * If the command produced timeslot ranges payload, show the UI window here (on the JavaFX thread).
-         * We catch IllegalStateException in case JavaFX toolkit is not initialized (e.g., during some tests).
-         */
-        if (commandResult.getTimeslotRanges() != null && !commandResult.getTimeslotRanges().isEmpty()) {
-            try {
-                if (model instanceof ModelManager) {
-                    List<Timeslot> allTimeslots = ((ModelManager) model).getTimeslots().getTimeslotList();
-                    Platform.runLater(() -> TimeslotsWindow.showMerged(commandResult.getTimeslotRanges(),
-                                                                         allTimeslots));
-                } else {
-                    Platform.runLater(() -> TimeslotsWindow.showMerged(commandResult.getTimeslotRanges(),
-                            Collections.emptyList()));
-                }
-            } catch (IllegalStateException e) {
-                // JavaFX not initialized; ignore UI launch, command result still returned.
-            }
-        }
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        storage.setSaveFailureListener(failure -> handler.accept(getSaveErrorMessage(failure)));
+    }
 
-        return commandResult;
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -105,6 +82,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyTimeslots getTimeslots() {
+        return model.getTimeslots();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
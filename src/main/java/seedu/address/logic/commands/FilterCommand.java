@@ -2,12 +2,20 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.predicates.ExerciseStatusMatchesPredicate;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
 
 
 
@@ -29,16 +37,29 @@ public class FilterCommand extends Command {
             + "Parameters: [ei/EXERCISE INDEX] [s/exercise status] [l/LAB INDEX] [s/lab status]\n"
             + "Example: " + COMMAND_WORD + " ei/1 s/Y \n";
 
-    private final Predicate<Person> predicate;
+    private final Optional<ExerciseFilter> exerciseFilter;
+    private final Optional<LabStatusMatchesPredicate> labPredicate;
 
-    public FilterCommand(Predicate<Person> predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a FilterCommand to filter by the given exercise status and lab attendance, at least one of which must
+     * be present.
+     */
+    public FilterCommand(Optional<ExerciseFilter> exerciseFilter, Optional<LabStatusMatchesPredicate> labPredicate) {
+        requireNonNull(exerciseFilter);
+        requireNonNull(labPredicate);
+        assert exerciseFilter.isPresent() || labPredicate.isPresent();
+        this.exerciseFilter = exerciseFilter;
+        this.labPredicate = labPredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        List<Predicate<Person>> predicates = new ArrayList<>();
+        exerciseFilter.ifPresent(filter -> predicates.add(
+                new ExerciseStatusMatchesPredicate(filter.index(), filter.status(), model.getCurrentWeek())));
+        labPredicate.ifPresent(predicates::add);
+        model.updateFilteredPersonList(new FilterCombinedPredicate(predicates));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -54,14 +75,22 @@ public class FilterCommand extends Command {
             return false;
         }
 
-        FilterCommand otherFindCommand = (FilterCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return exerciseFilter.equals(otherFilterCommand.exerciseFilter)
+                && labPredicate.equals(otherFilterCommand.labPredicate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("exerciseFilter", exerciseFilter)
+                .add("labPredicate", labPredicate)
                 .toString();
     }
+
+    /**
+     * The exercise status to filter by. Whether an exercise is overdue depends on the current week, so it is only
+     * turned into a predicate when the command is executed.
+     */
+    public record ExerciseFilter(Index index, Status status) {}
 }
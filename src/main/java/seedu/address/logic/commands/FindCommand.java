@@ -2,14 +2,22 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-
-
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.FieldKeywordsPredicate;
+import seedu.address.model.person.predicates.PersonContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -35,11 +43,42 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<StudentId>> matchingIds = searchIndex(model);
+        if (matchingIds.isPresent()) {
+            // The search result is live, so persons added or edited later are filtered by the same keywords
+            Set<StudentId> ids = matchingIds.get();
+            model.updateFilteredPersonList(person -> ids.contains(person.getStudentId()));
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Looks up the persons matching {@code predicate} in the model's search index.
+     * Returns an empty {@code Optional} if the predicate is not made up of field keyword predicates only.
+     */
+    private Optional<Set<StudentId>> searchIndex(Model model) {
+        List<Predicate<Person>> parts = new ArrayList<>();
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            parts.addAll(((PersonContainsKeywordsPredicate) predicate).getPredicates());
+        } else {
+            parts.add(predicate);
+        }
+
+        Map<SearchField, List<String>> keywordsByField = new EnumMap<>(SearchField.class);
+        for (Predicate<Person> part : parts) {
+            if (!(part instanceof FieldKeywordsPredicate)) {
+                return Optional.empty();
+            }
+            FieldKeywordsPredicate fieldPredicate = (FieldKeywordsPredicate) part;
+            keywordsByField.computeIfAbsent(fieldPredicate.getField(), unused -> new ArrayList<>())
+                    .addAll(fieldPredicate.getKeywords());
+        }
+        return Optional.of(model.searchPersons(keywordsByField));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
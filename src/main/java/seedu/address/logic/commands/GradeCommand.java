@@ -60,7 +60,7 @@ public class GradeCommand extends MultiIndexCommand {
 
         try {
             updatedGradeMap.gradeExam(examName, score);
-            assert updatedGradeMap.getGradeableHashMap().get(examName) != null
+            assert updatedGradeMap.isGraded(GradeMap.indexOfExam(examName))
                     : "Updated GradeMap should contain the graded exam";
         } catch (InvalidExamNameException iene) {
             throw new CommandException(String.format(
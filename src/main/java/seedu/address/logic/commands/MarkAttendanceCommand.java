@@ -13,7 +13,6 @@ import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.LabAttendanceList;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
 
 /**
@@ -63,14 +62,12 @@ public class MarkAttendanceCommand extends MultiIndexCommand {
 
     @Override
     protected Person applyActionToPerson(Model model, Person personToEdit) throws CommandException {
-        LabAttendanceList labAttendanceList = ((LabList) personToEdit.getLabAttendanceList())
-                .copy();
-
+        LabAttendanceList labAttendanceList;
         try {
             if (isAttended) {
-                labAttendanceList.markLabAsAttended(labNumber.getZeroBased());
+                labAttendanceList = personToEdit.getLabAttendanceList().markLabAsAttended(labNumber.getZeroBased());
             } else {
-                labAttendanceList.markLabAsAbsent(labNumber.getZeroBased());
+                labAttendanceList = personToEdit.getLabAttendanceList().markLabAsAbsent(labNumber.getZeroBased());
             }
         } catch (IndexOutOfBoundsException e) {
             throw new CommandException(
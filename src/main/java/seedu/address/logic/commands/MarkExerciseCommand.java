@@ -76,9 +76,9 @@ public class MarkExerciseCommand extends MultiIndexCommand {
 
     @Override
     protected Person applyActionToPerson(Model model, Person personToEdit) throws CommandException {
-        ExerciseTracker updatedExerciseTracker = personToEdit.getExerciseTracker().copy();
+        ExerciseTracker updatedExerciseTracker;
         try {
-            updatedExerciseTracker.markExercise(exerciseIndex, isDone);
+            updatedExerciseTracker = personToEdit.getExerciseTracker().markExercise(exerciseIndex, isDone);
         } catch (IndexOutOfBoundsException e) {
             throw new CommandException(String.format(MESSAGE_INDEX_OUT_OF_BOUNDS, HIGHEST_INDEX));
         } catch (IllegalStateException e) {
@@ -41,13 +41,20 @@ public abstract class MultiIndexCommand extends Command {
         model.saveAddressBook();
 
         List<Person> updatedPersons = new ArrayList<>();
-        for (Index index : multiIndex.toIndexList()) {
-            Person personToEdit = lastShownList.get(index.getZeroBased());
-            Person editedPerson = applyActionToPerson(model, personToEdit);
+        // Replace all selected persons in one batch, so the person list reports a single change and the shown
+        // list keeps its indices until every person has been processed.
+        model.beginBatch();
+        try {
+            for (Index index : multiIndex.toIndexList()) {
+                Person personToEdit = lastShownList.get(index.getZeroBased());
+                Person editedPerson = applyActionToPerson(model, personToEdit);
 
-            if (editedPerson != null) {
-                updatedPersons.add(editedPerson);
+                if (editedPerson != null) {
+                    updatedPersons.add(editedPerson);
+                }
             }
+        } finally {
+            model.commitBatch();
         }
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands of a script file as a single change, which is saved once and undone together.
+ * If any command fails, the changes made by the commands before it are reverted.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run-script";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, "
+            + "as a single change. If any command fails, none of the changes are kept.\n"
+            + "Blank lines and lines starting with # are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/setup.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_LINE_FAILED = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_ROLLED_BACK = "Script %1$s failed, so none of its changes were kept:";
+
+    private final Path scriptFile;
+    private final List<ScriptLine> lines;
+
+    /**
+     * Creates a command that runs {@code lines}, read from {@code scriptFile}, in order.
+     */
+    public RunScriptCommand(Path scriptFile, List<ScriptLine> lines) {
+        requireNonNull(scriptFile);
+        requireNonNull(lines);
+        this.scriptFile = scriptFile;
+        this.lines = List.copyOf(lines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            for (ScriptLine line : lines) {
+                executeLine(line, model);
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), scriptFile));
+    }
+
+    private void executeLine(ScriptLine line, Model model) throws CommandException {
+        try {
+            line.command().execute(model);
+        } catch (CommandException e) {
+            throw new CommandException(String.format(MESSAGE_ROLLED_BACK, scriptFile)
+                    + String.format(MESSAGE_LINE_FAILED, line.lineNumber(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+
+        RunScriptCommand otherCommand = (RunScriptCommand) other;
+        return scriptFile.equals(otherCommand.scriptFile)
+                && lines.equals(otherCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A command of the script, with the number of the line it was parsed from.
+     */
+    public record ScriptLine(int lineNumber, Command command) {
+        public ScriptLine {
+            requireNonNull(command);
+        }
+    }
+}
@@ -4,14 +4,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Week;
-import seedu.address.model.person.ExerciseTracker;
-import seedu.address.model.person.LabList;
-import seedu.address.model.person.Person;
 
 /**
  * Sets the current week number for the semester.
@@ -42,38 +37,13 @@ public class SetWeekCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         model.saveAddressBook(); // Save current state BEFORE making changes for undo functionality
 
+        // Lab and exercise statuses are derived from the model's week when read, so no student needs rebuilding.
         model.setCurrentWeek(currentWeek);
-        int currentWeekNumber = currentWeek.getWeekNumber();
-
-        LabList.setCurrentWeek(currentWeekNumber);
-        ExerciseTracker.setCurrentWeek(currentWeekNumber);
-
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int updatedCount = 0;
-
-        for (Person person : allPersons) {
-            LabList oldLabList = (LabList) person.getLabAttendanceList();
-            LabList updatedLabList = oldLabList.copy();
-            ExerciseTracker exerciseTracker = person.getExerciseTracker();
-            ExerciseTracker updatedExerciseTracker = exerciseTracker.copy();
-            Person updatedPerson = new Person(
-                    person.getStudentId(),
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getTags(),
-                    person.getGithubUsername(),
-                    updatedExerciseTracker,
-                    updatedLabList, // New LabList with updated weeks
-                    person.getGradeMap()
-            );
-            model.setPerson(person, updatedPerson);
-            updatedCount++;
-        }
+        int updatedCount = model.getAddressBook().getPersonList().size();
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, currentWeekNumber, updatedCount));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, currentWeek.getWeekNumber(), updatedCount));
     }
 
     @Override
@@ -6,7 +6,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -42,10 +41,8 @@ public class UnblockTimeslotCommand extends Command {
         Objects.requireNonNull(timeslot);
 
         // find stored timeslots that overlap the given range
-        List<Timeslot> stored = model.getTimeslots().getTimeslotList();
-        List<Timeslot> overlapping = stored.stream()
-                .filter(s -> overlaps(s, timeslot))
-                .collect(Collectors.toList());
+        List<Timeslot> overlapping = model.getTimeslots()
+                .getOverlappingTimeslots(timeslot.getStart(), timeslot.getEnd());
 
         if (overlapping.isEmpty()) {
             String start = timeslot.getStart().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
@@ -109,11 +106,6 @@ public class UnblockTimeslotCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, toRemove.size(), toAdd.size()));
     }
 
-    // Two timeslots overlap if their intervals intersect (end > start and start < end).
-    private static boolean overlaps(Timeslot a, Timeslot b) {
-        return a.getEnd().isAfter(b.getStart()) && a.getStart().isBefore(b.getEnd());
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,11 +1,11 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -26,6 +26,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkExerciseCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.SetWeekCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UnblockTimeslotCommand;
@@ -37,11 +39,58 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    /** The built-in commands, whose parsers are shared by every {@code AddressBookParser} using them. */
+    private static final CommandRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final CommandRegistry registry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser for the built-in commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates a parser for the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Returns a new registry of the built-in commands, to which more commands can be added.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(AddConsultationCommand.COMMAND_WORD, new AddConsultationCommandParser());
+        registry.register(GetConsultationsCommand.COMMAND_WORD, arguments -> new GetConsultationsCommand());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(MarkExerciseCommand.COMMAND_WORD, new MarkExerciseCommandParser());
+        registry.register(MarkAttendanceCommand.COMMAND_WORD, new MarkAttendanceCommandParser());
+        registry.register(GradeCommand.COMMAND_WORD, new GradeCommandParser());
+        registry.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        registry.register(SortCommand.COMMAND_WORD, new SortCommandParser());
+        registry.register(GetTimeslotCommand.COMMAND_WORD, new GetTimeslotCommandParser());
+        registry.register(BlockTimeslotCommand.COMMAND_WORD, new BlockTimeslotCommandParser());
+        registry.register(UnblockTimeslotCommand.COMMAND_WORD, new UnblockTimeslotCommandParser());
+        registry.register(ClearTimeslotsCommand.COMMAND_WORD, new ClearTimeslotsCommandParser());
+        registry.register(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        registry.register(SetWeekCommand.COMMAND_WORD, new SetWeekCommandParser());
+        registry.register(RunScriptCommand.COMMAND_WORD, new RunScriptCommandParser());
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -51,88 +100,36 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddConsultationCommand.COMMAND_WORD:
-            return new AddConsultationCommandParser().parse(arguments);
-
-        case GetConsultationsCommand.COMMAND_WORD:
-            return new GetConsultationsCommand();
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case MarkExerciseCommand.COMMAND_WORD:
-            return new MarkExerciseCommandParser().parse(arguments);
-
-        case MarkAttendanceCommand.COMMAND_WORD:
-            return new MarkAttendanceCommandParser().parse(arguments);
-
-        case GradeCommand.COMMAND_WORD:
-            return new GradeCommandParser().parse(arguments);
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case GetTimeslotCommand.COMMAND_WORD:
-            return new GetTimeslotCommandParser().parse(arguments);
-
-        case BlockTimeslotCommand.COMMAND_WORD:
-            return new BlockTimeslotCommandParser().parse(arguments);
-
-        case UnblockTimeslotCommand.COMMAND_WORD:
-            return new UnblockTimeslotCommandParser().parse(arguments);
-
-        case ClearTimeslotsCommand.COMMAND_WORD:
-            return new ClearTimeslotsCommandParser().parse(arguments);
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
-
-        case SetWeekCommand.COMMAND_WORD:
-            return new SetWeekCommandParser().parse(arguments);
-
-        default:
+        Optional<Parser<? extends Command>> parser = registry.getParser(commandWord);
+        if (parser.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
+    }
+
+    /**
+     * Returns true if {@code c} separates the command word from its arguments.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words, and any aliases of them, to the parsers of their commands.
+ * Parsers are shared by every input with their command word, so they must not keep state between calls.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Registers {@code parser} for input starting with {@code commandWord} or any of {@code aliases}.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        requireNonNull(parser);
+        List<String> words = new ArrayList<>();
+        words.add(commandWord);
+        words.addAll(Arrays.asList(aliases));
+        for (String word : words) {
+            requireNonNull(word);
+            if (parsers.containsKey(word)) {
+                throw new IllegalArgumentException("Command word already registered: " + word);
+            }
+        }
+        words.forEach(word -> parsers.put(word, parser));
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+}
@@ -3,21 +3,16 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXERCISE_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LAB_NUMBER;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import javafx.util.Pair;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.InvalidIndexException;
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FilterCommand.ExerciseFilter;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.Status;
-import seedu.address.model.person.predicates.ExerciseStatusMatchesPredicate;
-import seedu.address.model.person.predicates.FilterCombinedPredicate;
 import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
 
 /**
@@ -38,24 +33,21 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         Optional<String> exerciseIndexOptional = argMultimap.getValue(PREFIX_EXERCISE_INDEX);
         Optional<String> labNumberOptional = argMultimap.getValue(PREFIX_LAB_NUMBER);
 
-        List<Predicate<Person>> predicates = new ArrayList<>();
-
-        if (exerciseIndexOptional.isPresent()) {
-            predicates.add(createExerciseFilter(exerciseIndexOptional));
-        }
-
-        if (labNumberOptional.isPresent()) {
-            predicates.add(createLabFilter(labNumberOptional));
-        }
-
-        if (predicates.isEmpty()) {
+        if (exerciseIndexOptional.isEmpty() && labNumberOptional.isEmpty()) {
             throw new ParseException(FilterCommand.MESSAGE_USAGE);
         }
 
-        return new FilterCommand(new FilterCombinedPredicate(predicates));
+        Optional<ExerciseFilter> exerciseFilter = exerciseIndexOptional.isPresent()
+                ? Optional.of(createExerciseFilter(exerciseIndexOptional))
+                : Optional.empty();
+        Optional<LabStatusMatchesPredicate> labPredicate = labNumberOptional.isPresent()
+                ? Optional.of(createLabFilter(labNumberOptional))
+                : Optional.empty();
+
+        return new FilterCommand(exerciseFilter, labPredicate);
     }
 
-    private ExerciseStatusMatchesPredicate createExerciseFilter(Optional<String> exerciseIndexOptional)
+    private ExerciseFilter createExerciseFilter(Optional<String> exerciseIndexOptional)
             throws ParseException {
         assert(exerciseIndexOptional.isPresent());
         String exerciseIndexStatus = exerciseIndexOptional.get();
@@ -63,7 +55,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         Status exerciseStatus = indexStatusPair.getValue();
         String exerciseIndexString = indexStatusPair.getKey();
         Index exerciseIndex = ParserUtil.parseExerciseIndex(exerciseIndexString);
-        return new ExerciseStatusMatchesPredicate(exerciseIndex, exerciseStatus);
+        return new ExerciseFilter(exerciseIndex, exerciseStatus);
     }
 
     private LabStatusMatchesPredicate createLabFilter(Optional<String> labNumberOptional)
@@ -25,8 +25,6 @@ import seedu.address.model.person.Examination;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.GradeMap;
-import seedu.address.model.person.Lab;
-import seedu.address.model.person.LabAttendance;
 import seedu.address.model.person.LabAttendanceList;
 import seedu.address.model.person.LabList;
 import seedu.address.model.person.Name;
@@ -255,18 +253,17 @@ public class ParserUtil {
             throw new ParseException(LabList.MESSAGE_CONSTRAINTS);
         }
 
-        LabAttendance[] labs = new LabAttendance[LabList.NUMBER_OF_LABS];
+        LabList labs = new LabList();
         String[] parts = trimmed.split("\\s+");
 
-        for (int i = 0; i < labs.length; i++) {
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
             String status = parts[i * 2 + 1];
 
-            labs[i] = new Lab(i + 1, LabList.getCurrentWeek());
             if (status.equals("Y")) {
-                labs[i].markAsAttended();
+                labs = labs.markLabAsAttended(i);
             }
         }
-        return new LabList(labs);
+        return labs;
     }
     /**
      * Parses a {@code String exerciseTrackerString} into an {@code ExerciseTracker}.
@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code RunScriptCommand} object.
+ * Every line of the script is parsed up front, so that a script with any invalid line is not run at all.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    public static final String MESSAGE_CANNOT_READ = "Could not read script file: %1$s";
+    public static final String MESSAGE_INVALID_LINES = "Script %1$s has %2$d invalid line(s), so it was not run:";
+    public static final String MESSAGE_MORE_INVALID_LINES = "\n...and %1$d more";
+    public static final String MESSAGE_NOT_ALLOWED = "%1$s cannot be used in a script";
+
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private static final String COMMENT_MARKER = "#";
+
+    @Override
+    public RunScriptCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        Path scriptFile = Paths.get(trimmedArgs);
+        List<String> scriptLines;
+        try {
+            scriptLines = Files.readAllLines(scriptFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ, scriptFile), e);
+        }
+        return new RunScriptCommand(scriptFile, parseLines(scriptFile, scriptLines));
+    }
+
+    private static List<ScriptLine> parseLines(Path scriptFile, List<String> scriptLines) throws ParseException {
+        // Created per script, as the built-in registry includes this parser
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<ScriptLine> lines = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int invalidCount = 0;
+        for (int i = 0; i < scriptLines.size(); i++) {
+            String line = scriptLines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            try {
+                lines.add(new ScriptLine(lineNumber, parseLine(addressBookParser, line)));
+            } catch (ParseException pe) {
+                invalidCount++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(String.format(RunScriptCommand.MESSAGE_LINE_FAILED, lineNumber, pe.getMessage()));
+                }
+            }
+        }
+
+        if (invalidCount > 0) {
+            StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_LINES, scriptFile, invalidCount));
+            errors.forEach(message::append);
+            if (invalidCount > errors.size()) {
+                message.append(String.format(MESSAGE_MORE_INVALID_LINES, invalidCount - errors.size()));
+            }
+            throw new ParseException(message.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Parses one line of a script, rejecting commands that only make sense when typed by the user.
+     */
+    private static Command parseLine(AddressBookParser addressBookParser, String line) throws ParseException {
+        Command command = addressBookParser.parseCommand(line);
+        if (command instanceof UndoCommand || command instanceof RedoCommand || command instanceof ExitCommand
+                || command instanceof RunScriptCommand) {
+            String commandWord = line.split("\\s+", 2)[0];
+            throw new ParseException(String.format(MESSAGE_NOT_ALLOWED, commandWord));
+        }
+        return command;
+    }
+}
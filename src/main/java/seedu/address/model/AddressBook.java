@@ -4,11 +4,17 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level
@@ -79,6 +85,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Returns the position of {@code person} in the address book, or -1 if it is not present.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -99,6 +120,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Starts grouping changes to the person list into a single change notification, sent by the matching
+     * {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
+    }
+
+    /**
+     * Returns the ids of persons with a field in {@code keywordsByField} that contains any of its keywords, ignoring
+     * case. The returned set is a live view that reflects later changes to the address book.
+     */
+    public Set<StudentId> searchPersons(Map<SearchField, List<String>> keywordsByField) {
+        return persons.search(keywordsByField);
+    }
+
     /**
      * Sorts the person list using the given comparator.
      */
@@ -120,6 +164,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns an immutable view of the current state of this address book in O(1).
+     * Later changes to this address book do not affect the returned view.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new Snapshot(persons.snapshot(), currentWeek);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -153,4 +205,27 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * An immutable point-in-time view of an {@code AddressBook} that shares its person list with the original.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final PersistentList<Person> persons;
+        private final Week currentWeek;
+
+        Snapshot(PersistentList<Person> persons, Week currentWeek) {
+            this.persons = persons;
+            this.currentWeek = currentWeek;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        }
+
+        @Override
+        public Week getCurrentWeek() {
+            return currentWeek;
+        }
+    }
 }
@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.ModelChange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -78,6 +84,47 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Starts a batch of person changes. Changes made before the matching {@link #commitBatch()} take effect
+     * immediately, but the person list reports them to its listeners as a single change.
+     * Batches may be nested; only the outermost commit notifies listeners.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    void commitBatch();
+
+    /**
+     * Starts a transaction. Changes made until the matching {@link #commitTransaction()} or
+     * {@link #rollbackTransaction()} are undone together, and listeners of the person list are notified once.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps the changes made since {@link #beginTransaction()}.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Reverts every change made since {@link #beginTransaction()}, leaving nothing new to save or undo.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns the ids of persons with a field in {@code keywordsByField} that contains any of its keywords, ignoring
+     * case. Uses an index, so it does not scan every person.
+     * The returned set is a live view: persons added or edited later are included if they match.
+     */
+    Set<StudentId> searchPersons(Map<SearchField, List<String>> keywordsByField);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -88,7 +135,7 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Saves the current state of the address book.
+     * Saves the current state of the address book, so that the changes made after this call are undone together.
      */
     void saveAddressBook();
 
@@ -102,12 +149,49 @@ public interface Model {
      */
     void undoAddressBook();
 
+    /**
+     * Returns true if the model has an undone address book state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Re-applies the most recently undone changes to the model's address book.
+     */
+    void redoAddressBook();
+
     /**
      * Sorts the person list using the given comparator.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void sortPersonList(Comparator<Person> comparator);
 
+    /**
+     * Returns the changes made to the address book and timeslots since the last call, in the order they were made,
+     * and forgets them. Used by storage to save only what changed.
+     */
+    List<ModelChange> takeUnsavedChanges();
+
+    /**
+     * Returns an immutable snapshot of the address book, which may be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns an immutable snapshot of the timeslots, which may be read from any thread.
+     */
+    ReadOnlyTimeslots getTimeslotsSnapshot();
+
+    /**
+     * Returns a number that starts at 0 and increases whenever the address book changes, so that storage can skip
+     * saving it when it has not changed since the last save.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns a number that starts at 0 and increases whenever the timeslots change.
+     */
+    long getTimeslotsVersion();
+
     // ===== Timeslots-related APIs =====
     /**
      * Returns the timeslots as an unmodifiable view.
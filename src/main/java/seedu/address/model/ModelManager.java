@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,7 +16,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.history.ModelChange;
+import seedu.address.model.history.UndoRedoHistory;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -24,8 +32,11 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private ReadOnlyAddressBook previousAddressBookState;
-    private ReadOnlyTimeslots previousTimeslotsState;
+    private final UndoRedoHistory history;
+    private final List<ModelChange> unsavedChanges = new ArrayList<>();
+    private long addressBookVersion;
+    private long timeslotsVersion;
+    private Transaction transaction;
 
     // Add timeslots managed by the model
     private Timeslots timeslots;
@@ -42,6 +53,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.timeslots = new Timeslots(); // default empty timeslots
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.history = new UndoRedoHistory(this.userPrefs.getUndoHistoryBudget());
     }
 
     /**
@@ -57,8 +69,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.timeslots = new Timeslots(timeslots);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.previousAddressBookState = null;
-        this.previousTimeslotsState = null;
+        this.history = new UndoRedoHistory(this.userPrefs.getUndoHistoryBudget());
     }
 
     public ModelManager() {
@@ -70,6 +81,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setBudget(this.userPrefs.getUndoHistoryBudget());
     }
 
     @Override
@@ -103,7 +115,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook before = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        record(new ModelChange.AddressBookReplaced(before, this.addressBook.snapshot()));
     }
 
     @Override
@@ -119,12 +133,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.indexOfPerson(target);
         addressBook.removePerson(target);
+        record(new ModelChange.PersonRemoved(index, target));
     }
 
     @Override
     public void addPerson(Person person) {
+        int index = addressBook.getPersonList().size();
         addressBook.addPerson(person);
+        record(new ModelChange.PersonAdded(index, person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -133,12 +151,74 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        record(new ModelChange.PersonReplaced(target, editedPerson));
     }
 
     @Override
     public void sortPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        // Sorting is not undoable, so it is not recorded; recorded positions are clamped when replayed instead.
+        // It still changes the saved order, so storage sees it as a replacement of the whole address book.
+        ReadOnlyAddressBook before = addressBook.snapshot();
         addressBook.sortPersons(comparator);
+        addUnsavedChange(new ModelChange.AddressBookReplaced(before, addressBook.snapshot()));
+    }
+
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        addressBook.endBatch();
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        history.beginStep();
+        addressBook.beginBatch();
+        transaction = new Transaction(unsavedChanges.size(), addressBookVersion, timeslotsVersion);
+    }
+
+    @Override
+    public void commitTransaction() {
+        endTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        Transaction rolledBack = transaction;
+        if (rolledBack == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+        try {
+            for (int i = unsavedChanges.size() - 1; i >= rolledBack.firstChange(); i--) {
+                unsavedChanges.remove(i).undo(addressBook, timeslots);
+            }
+            history.discardOpenStep();
+            addressBookVersion = rolledBack.addressBookVersion();
+            timeslotsVersion = rolledBack.timeslotsVersion();
+        } finally {
+            endTransaction();
+        }
+    }
+
+    private void endTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+        transaction = null;
+        addressBook.endBatch();
+    }
+
+    @Override
+    public Set<StudentId> searchPersons(Map<SearchField, List<String>> keywordsByField) {
+        requireNonNull(keywordsByField);
+        return addressBook.searchPersons(keywordsByField);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -161,12 +241,16 @@ public class ModelManager implements Model {
     //=========== Undo Command =================================================================================
 
     /**
-     * Saves the current address book state before making changes.
+     * Starts a new undo step; changes made from now on are undone together.
+     * Does nothing during a transaction, whose changes are all in one step.
+     * Only the changes themselves are recorded, so this costs O(1) regardless of the number of persons.
      */
     @Override
     public void saveAddressBook() {
-        previousAddressBookState = new AddressBook(addressBook);
-        previousTimeslotsState = new Timeslots(timeslots);
+        // A transaction is a single step, however many commands it runs
+        if (transaction == null) {
+            history.beginStep();
+        }
     }
 
     /**
@@ -174,7 +258,7 @@ public class ModelManager implements Model {
      */
     @Override
     public boolean canUndoAddressBook() {
-        return previousAddressBookState != null && previousTimeslotsState != null;
+        return history.canUndo();
     }
 
     /**
@@ -182,14 +266,61 @@ public class ModelManager implements Model {
      */
     @Override
     public void undoAddressBook() {
-        if (!canUndoAddressBook()) {
-            throw new IllegalStateException("No previous state to undo!");
-        }
+        history.undo(addressBook, timeslots).forEach(this::addUnsavedChange);
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook, timeslots).forEach(this::addUnsavedChange);
+    }
 
-        setAddressBook(previousAddressBookState);
-        setTimeslots(previousTimeslotsState);
-        previousAddressBookState = null;
-        previousTimeslotsState = null;
+    @Override
+    public List<ModelChange> takeUnsavedChanges() {
+        List<ModelChange> changes = List.copyOf(unsavedChanges);
+        unsavedChanges.clear();
+        return changes;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public ReadOnlyTimeslots getTimeslotsSnapshot() {
+        return timeslots.snapshot();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public long getTimeslotsVersion() {
+        return timeslotsVersion;
+    }
+
+    /**
+     * Records {@code change} in the undo history and as a change yet to be saved.
+     */
+    private void record(ModelChange change) {
+        history.record(change);
+        addUnsavedChange(change);
+    }
+
+    private void addUnsavedChange(ModelChange change) {
+        unsavedChanges.add(change);
+        if (change.isTimeslotsChange()) {
+            timeslotsVersion++;
+        } else {
+            addressBookVersion++;
+        }
     }
 
     /**
@@ -201,7 +332,9 @@ public class ModelManager implements Model {
 
     public void setTimeslots(ReadOnlyTimeslots newData) {
         requireNonNull(newData);
+        ReadOnlyTimeslots before = timeslots.snapshot();
         this.timeslots.resetData(newData);
+        record(new ModelChange.TimeslotsReplaced(before, timeslots.snapshot()));
     }
 
     /**
@@ -211,7 +344,9 @@ public class ModelManager implements Model {
      */
     public void addTimeslot(Timeslot t) {
         requireNonNull(t);
+        int index = timeslots.getTimeslotList().size();
         this.timeslots.addTimeslot(t);
+        record(new ModelChange.TimeslotAdded(index, t));
     }
 
     /**
@@ -222,7 +357,12 @@ public class ModelManager implements Model {
     @Override
     public void removeTimeslot(Timeslot t) {
         requireNonNull(t);
+        int index = timeslots.indexOf(t);
+        if (index == -1) {
+            return;
+        }
         this.timeslots.removeTimeslot(t);
+        record(new ModelChange.TimeslotRemoved(index, t));
     }
 
     /**
@@ -242,14 +382,20 @@ public class ModelManager implements Model {
     @Override
     public void clearTimeslots() {
         requireNonNull(this.timeslots);
+        ReadOnlyTimeslots before = timeslots.snapshot();
         this.timeslots.clear();
+        record(new ModelChange.TimeslotsReplaced(before, timeslots.snapshot()));
     }
 
     //=========== CurrentWeek Accessors =============================================================
 
     @Override
     public void setCurrentWeek(Week currentWeek) {
+        Week before = addressBook.getCurrentWeek();
         addressBook.setCurrentWeek(currentWeek);
+        if (!before.equals(currentWeek)) {
+            record(new ModelChange.WeekChanged(before, currentWeek));
+        }
     }
 
     @Override
@@ -274,4 +420,9 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons)
                 && timeslots.equals(otherModelManager.timeslots);
     }
+
+    /**
+     * Where a transaction started, so that its changes can be reverted.
+     */
+    private record Transaction(int firstChange, long addressBookVersion, long timeslotsVersion) {}
 }
@@ -1,5 +1,10 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.timeslot.Timeslot;
 
@@ -8,4 +13,14 @@ import seedu.address.model.timeslot.Timeslot;
  */
 public interface ReadOnlyTimeslots {
     ObservableList<Timeslot> getTimeslotList();
+
+    /**
+     * Returns the timeslots that intersect the interval from {@code start} to {@code end}, ordered by start time.
+     */
+    default List<Timeslot> getOverlappingTimeslots(LocalDateTime start, LocalDateTime end) {
+        return getTimeslotList().stream()
+                .filter(t -> t.getEnd().isAfter(start) && t.getStart().isBefore(end))
+                .sorted(Comparator.comparing(Timeslot::getStart))
+                .collect(Collectors.toList());
+    }
 }
@@ -14,4 +14,29 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookFilePath();
 
     Path getTimeslotsFilePath();
+
+    /**
+     * Returns the approximate number of bytes the undo/redo history may retain.
+     */
+    long getUndoHistoryBudget();
+
+    /**
+     * Returns true if commands are saved by appending their changes to a journal instead of rewriting the data files.
+     */
+    boolean isCommandJournalEnabled();
+
+    /**
+     * Returns the format the address book and timeslots are saved in. Either format is read regardless.
+     */
+    UserPrefs.DataFormat getDataFormat();
+
+    /**
+     * Returns the number of files the address book's persons are split across, or 0 if they are kept in one file.
+     */
+    int getAddressBookShardCount();
+
+    /**
+     * Returns the gzip compression level of the address book and timeslots files, or 0 if they are not compressed.
+     */
+    int getCompressionLevel();
 }
@@ -2,20 +2,35 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.timeslot.Timeslot;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Wraps all data at the timeslots level.
- * Duplicates are not allowed (by .equals comparison).
+ * Timeslots may not overlap, so duplicates are not allowed either.
+ * A {@code PersistentList} copy of the timeslots is kept in step so that {@link #snapshot()} is O(1).
+ *
+ * Since stored timeslots never overlap, ordering them by start time also orders them by end time. They are indexed
+ * in a {@code TreeMap} keyed by start, so overlap checks and range lookups take O(log n + k) for k matches. Their
+ * positions in the list are also kept by start, so a timeslot to remove is found without scanning the list.
  */
 public class Timeslots implements ReadOnlyTimeslots {
 
     private final ObservableList<Timeslot> times = FXCollections.observableArrayList();
+    private PersistentList<Timeslot> persistentTimes = PersistentList.empty();
+    private final NavigableMap<LocalDateTime, Timeslot> timesByStart = new TreeMap<>();
+    private final Map<LocalDateTime, Integer> positionByStart = new HashMap<>();
 
     public Timeslots() {}
 
@@ -31,11 +46,30 @@ public class Timeslots implements ReadOnlyTimeslots {
 
     /**
      * Replaces the contents of the timeslot list with {@code timeslots}.
-     * {@code timeslots} must not contain duplicate timeslots.
+     *
+     * @throws IllegalArgumentException if any two of {@code timeslots} overlap.
      */
     public void setTimeslots(List<Timeslot> timeslots) {
         requireNonNull(timeslots);
+        NavigableMap<LocalDateTime, Timeslot> newTimesByStart = new TreeMap<>();
+        for (Timeslot t : timeslots) {
+            Timeslot sameStart = newTimesByStart.put(t.getStart(), t);
+            if (sameStart != null) {
+                throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + sameStart);
+            }
+        }
+        Timeslot previous = null;
+        for (Timeslot t : newTimesByStart.values()) {
+            if (previous != null && overlaps(previous, t)) {
+                throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + previous);
+            }
+            previous = t;
+        }
         times.setAll(timeslots);
+        persistentTimes = PersistentList.of(times);
+        timesByStart.clear();
+        timesByStart.putAll(newTimesByStart);
+        updatePositions(0);
     }
 
     /**
@@ -55,14 +89,72 @@ public class Timeslots implements ReadOnlyTimeslots {
      * @throws IllegalArgumentException if the new timeslot overlaps an existing one.
      */
     public void addTimeslot(Timeslot t) {
+        addTimeslot(times.size(), t);
+    }
+
+    /**
+     * Inserts a timeslot at {@code index}, e.g. to restore one that was removed.
+     *
+     * @throws IllegalArgumentException if the timeslot overlaps an existing one.
+     */
+    public void addTimeslot(int index, Timeslot t) {
         requireNonNull(t);
         // Prevent overlapping timeslots: new timeslot must not intersect any existing timeslot.
-        for (Timeslot existing : times) {
-            if (overlaps(existing, t)) {
-                throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + existing);
+        List<Timeslot> overlapping = getOverlappingTimeslots(t.getStart(), t.getEnd());
+        if (!overlapping.isEmpty()) {
+            throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + overlapping.get(0));
+        }
+        times.add(index, t);
+        persistentTimes = persistentTimes.add(index, t);
+        timesByStart.put(t.getStart(), t);
+        // Timeslots from the inserted one onwards have shifted up by one position.
+        updatePositions(index);
+    }
+
+    /**
+     * Returns the timeslots that intersect the interval from {@code start} to {@code end}, ordered by start time.
+     */
+    @Override
+    public List<Timeslot> getOverlappingTimeslots(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        List<Timeslot> overlapping = new ArrayList<>();
+        if (!end.isAfter(start)) {
+            return overlapping;
+        }
+        // Only the last timeslot starting at or before start can reach into the interval from the left.
+        LocalDateTime from = timesByStart.floorKey(start);
+        Map<LocalDateTime, Timeslot> candidates = timesByStart.subMap(from == null ? start : from, true, end, false);
+        for (Timeslot candidate : candidates.values()) {
+            if (candidate.getEnd().isAfter(start)) {
+                overlapping.add(candidate);
             }
         }
-        times.add(t);
+        return overlapping;
+    }
+
+    /**
+     * Returns the position of {@code t} in this collection, or -1 if it is not present.
+     */
+    public int indexOf(Timeslot t) {
+        requireNonNull(t);
+        Integer index = positionByStart.get(t.getStart());
+        if (index == null || !times.get(index).equals(t)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Recomputes the positions of the timeslots from {@code fromIndex} onwards after they have shifted.
+     */
+    private void updatePositions(int fromIndex) {
+        if (fromIndex == 0) {
+            positionByStart.clear();
+        }
+        for (int i = fromIndex; i < times.size(); i++) {
+            positionByStart.put(times.get(i).getStart(), i);
+        }
     }
 
     /**
@@ -80,11 +172,23 @@ public class Timeslots implements ReadOnlyTimeslots {
      */
     public boolean hasTimeslot(Timeslot t) {
         requireNonNull(t);
-        return times.contains(t);
+        return t.equals(timesByStart.get(t.getStart()));
     }
 
+    /**
+     * Removes {@code key} from this collection if it is present.
+     */
     public void removeTimeslot(Timeslot key) {
-        times.remove(key);
+        int index = indexOf(key);
+        if (index == -1) {
+            return;
+        }
+        times.remove(index);
+        persistentTimes = persistentTimes.remove(index);
+        timesByStart.remove(key.getStart());
+        positionByStart.remove(key.getStart());
+        // Timeslots after the removed one have shifted down by one position.
+        updatePositions(index);
     }
 
     /**
@@ -92,10 +196,22 @@ public class Timeslots implements ReadOnlyTimeslots {
      */
     public void clear() {
         times.clear();
+        persistentTimes = PersistentList.empty();
+        timesByStart.clear();
+        positionByStart.clear();
     }
 
     //// util methods
 
+    /**
+     * Returns an immutable view of the current timeslots in O(1).
+     * Later changes to this collection do not affect the returned view.
+     */
+    public ReadOnlyTimeslots snapshot() {
+        PersistentList<Timeslot> snapshot = persistentTimes;
+        return () -> FXCollections.unmodifiableObservableList(FXCollections.observableList(snapshot.asList()));
+    }
+
     @Override
     public ObservableList<Timeslot> getTimeslotList() {
         return FXCollections.unmodifiableObservableList(times);
@@ -7,15 +7,31 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * The formats the address book and timeslots can be saved in.
+     */
+    public enum DataFormat {
+        JSON,
+        BINARY
+    }
+
+    public static final long DEFAULT_UNDO_HISTORY_BUDGET = 4L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path timeslotsFilePath = Paths.get("data" , "timeslots.json");
+    private long undoHistoryBudget = DEFAULT_UNDO_HISTORY_BUDGET;
+    private boolean isCommandJournalEnabled = false;
+    private DataFormat dataFormat = DataFormat.JSON;
+    private int addressBookShardCount = 0;
+    private int compressionLevel = FileUtil.NO_COMPRESSION;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +54,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setTimeslotsFilePath(newUserPrefs.getTimeslotsFilePath());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
+        setCommandJournalEnabled(newUserPrefs.isCommandJournalEnabled());
+        setDataFormat(newUserPrefs.getDataFormat());
+        setAddressBookShardCount(newUserPrefs.getAddressBookShardCount());
+        setCompressionLevel(newUserPrefs.getCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +88,66 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.timeslotsFilePath = timeslotsFilePath;
     }
 
+    public long getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    /**
+     * Sets the approximate number of bytes the undo/redo history may retain.
+     */
+    public void setUndoHistoryBudget(long undoHistoryBudget) {
+        if (undoHistoryBudget < 0) {
+            throw new IllegalArgumentException("Undo history budget must not be negative");
+        }
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
+    public boolean isCommandJournalEnabled() {
+        return isCommandJournalEnabled;
+    }
+
+    public void setCommandJournalEnabled(boolean isCommandJournalEnabled) {
+        this.isCommandJournalEnabled = isCommandJournalEnabled;
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        requireNonNull(dataFormat);
+        this.dataFormat = dataFormat;
+    }
+
+    public int getAddressBookShardCount() {
+        return addressBookShardCount;
+    }
+
+    /**
+     * Sets the number of files the address book's persons are split across, or 0 to keep them in a single file.
+     */
+    public void setAddressBookShardCount(int addressBookShardCount) {
+        if (addressBookShardCount < 0) {
+            throw new IllegalArgumentException("Address book shard count must not be negative");
+        }
+        this.addressBookShardCount = addressBookShardCount;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Sets the gzip compression level of the address book and timeslots files, from 1 (fastest) to 9 (smallest),
+     * or 0 to save them uncompressed.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        if (compressionLevel < FileUtil.NO_COMPRESSION || compressionLevel > FileUtil.MAX_COMPRESSION_LEVEL) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9");
+        }
+        this.compressionLevel = compressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +161,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget
+                && isCommandJournalEnabled == otherUserPrefs.isCommandJournalEnabled
+                && dataFormat == otherUserPrefs.dataFormat
+                && addressBookShardCount == otherUserPrefs.addressBookShardCount
+                && compressionLevel == otherUserPrefs.compressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryBudget, isCommandJournalEnabled,
+                dataFormat, addressBookShardCount, compressionLevel);
     }
 
     @Override
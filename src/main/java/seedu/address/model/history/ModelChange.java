@@ -0,0 +1,329 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * A single recorded change to the model that can be reverted and re-applied.
+ * Changes only hold the data needed to move between the two states, so recording one costs far less than copying
+ * the whole address book.
+ */
+public interface ModelChange {
+
+    /** Rough number of bytes retained by a recorded {@code Person}, used for the undo history budget. */
+    long ESTIMATED_PERSON_BYTES = 512;
+    /** Rough number of bytes retained by a recorded {@code Timeslot}. */
+    long ESTIMATED_TIMESLOT_BYTES = 96;
+    /** Rough number of bytes of bookkeeping per recorded change. */
+    long ESTIMATED_CHANGE_BYTES = 32;
+
+    /**
+     * Reverts this change, assuming the model is in the state right after it was made.
+     */
+    void undo(AddressBook addressBook, Timeslots timeslots);
+
+    /**
+     * Re-applies this change, assuming the model is in the state right before it was made.
+     */
+    void redo(AddressBook addressBook, Timeslots timeslots);
+
+    /**
+     * Returns an estimate of the memory retained by this change, in bytes.
+     */
+    long estimateSize();
+
+    /**
+     * Returns the change that reverts this one, i.e. whose {@code redo} does what this change's {@code undo} does.
+     */
+    ModelChange inverse();
+
+    /**
+     * Returns true if this change is to the timeslots rather than the address book.
+     */
+    default boolean isTimeslotsChange() {
+        return false;
+    }
+
+    /**
+     * Returns the number of elements of {@code before} that are not the same objects as any element of {@code after},
+     * i.e. that only a recorded {@code before} snapshot keeps alive.
+     */
+    private static <T> long countRemoved(List<T> before, List<T> after) {
+        Set<T> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(after);
+        return before.stream().filter(element -> !kept.contains(element)).count();
+    }
+
+    /**
+     * A person inserted at {@code index}.
+     * Positions are only a hint for restoring the original order, since the list may have been sorted since.
+     */
+    record PersonAdded(int index, Person person) implements ModelChange {
+        public PersonAdded {
+            requireNonNull(person);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.addPerson(Math.min(index, addressBook.getPersonList().size()), person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES + ESTIMATED_PERSON_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new PersonRemoved(index, person);
+        }
+    }
+
+    /**
+     * A person removed from {@code index}.
+     */
+    record PersonRemoved(int index, Person person) implements ModelChange {
+        public PersonRemoved {
+            requireNonNull(person);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.addPerson(Math.min(index, addressBook.getPersonList().size()), person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES + ESTIMATED_PERSON_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new PersonAdded(index, person);
+        }
+    }
+
+    /**
+     * A person {@code before} replaced by {@code after}.
+     */
+    record PersonReplaced(Person before, Person after) implements ModelChange {
+        public PersonReplaced {
+            requireAllNonNull(before, after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.setPerson(after, before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.setPerson(before, after);
+        }
+
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES + 2 * ESTIMATED_PERSON_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new PersonReplaced(after, before);
+        }
+    }
+
+    /**
+     * The current week changed from {@code before} to {@code after}.
+     */
+    record WeekChanged(Week before, Week after) implements ModelChange {
+        public WeekChanged {
+            requireAllNonNull(before, after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.setCurrentWeek(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.setCurrentWeek(after);
+        }
+
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new WeekChanged(after, before);
+        }
+    }
+
+    /**
+     * The whole address book replaced, e.g. by a clear.
+     * {@code before} and {@code after} are snapshots, so they share structure with each other and the live data.
+     */
+    record AddressBookReplaced(ReadOnlyAddressBook before, ReadOnlyAddressBook after) implements ModelChange {
+        public AddressBookReplaced {
+            requireAllNonNull(before, after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.resetData(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            addressBook.resetData(after);
+        }
+
+        /**
+         * {@inheritDoc}
+         * Only the persons of {@code before} that are not in {@code after} are charged, as the rest are kept alive
+         * by the data anyway, e.g. after a sort.
+         */
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES
+                    + countRemoved(before.getPersonList(), after.getPersonList()) * ESTIMATED_PERSON_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new AddressBookReplaced(after, before);
+        }
+    }
+
+    /**
+     * A timeslot inserted at {@code index}.
+     */
+    record TimeslotAdded(int index, Timeslot timeslot) implements ModelChange {
+        public TimeslotAdded {
+            requireNonNull(timeslot);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            timeslots.removeTimeslot(timeslot);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            timeslots.addTimeslot(Math.min(index, timeslots.getTimeslotList().size()), timeslot);
+        }
+
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES + ESTIMATED_TIMESLOT_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new TimeslotRemoved(index, timeslot);
+        }
+
+        @Override
+        public boolean isTimeslotsChange() {
+            return true;
+        }
+    }
+
+    /**
+     * A timeslot removed from {@code index}.
+     */
+    record TimeslotRemoved(int index, Timeslot timeslot) implements ModelChange {
+        public TimeslotRemoved {
+            requireNonNull(timeslot);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            timeslots.addTimeslot(Math.min(index, timeslots.getTimeslotList().size()), timeslot);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            timeslots.removeTimeslot(timeslot);
+        }
+
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES + ESTIMATED_TIMESLOT_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new TimeslotAdded(index, timeslot);
+        }
+
+        @Override
+        public boolean isTimeslotsChange() {
+            return true;
+        }
+    }
+
+    /**
+     * All timeslots replaced, e.g. by a clear. {@code before} and {@code after} are snapshots.
+     */
+    record TimeslotsReplaced(ReadOnlyTimeslots before, ReadOnlyTimeslots after) implements ModelChange {
+        public TimeslotsReplaced {
+            requireAllNonNull(before, after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook, Timeslots timeslots) {
+            timeslots.resetData(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook, Timeslots timeslots) {
+            timeslots.resetData(after);
+        }
+
+        /**
+         * {@inheritDoc}
+         * Only the timeslots of {@code before} that are not in {@code after} are charged.
+         */
+        @Override
+        public long estimateSize() {
+            return ESTIMATED_CHANGE_BYTES
+                    + countRemoved(before.getTimeslotList(), after.getTimeslotList()) * ESTIMATED_TIMESLOT_BYTES;
+        }
+
+        @Override
+        public ModelChange inverse() {
+            return new TimeslotsReplaced(after, before);
+        }
+
+        @Override
+        public boolean isTimeslotsChange() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+
+/**
+ * A bounded multi-level undo/redo history made of {@link ModelChange} deltas.
+ *
+ * Changes are grouped into steps, one per undoable command. A step is opened by {@link #beginStep()}; changes
+ * recorded while no step is open join the most recent open step, or start a new one. Once the estimated size of the
+ * history exceeds its byte budget the oldest steps are dropped, though the latest step is always kept.
+ */
+public class UndoRedoHistory {
+    private static final Logger logger = LogsCenter.getLogger(UndoRedoHistory.class);
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private Step openStep;
+    private long budget;
+    private long size;
+
+    /**
+     * Creates an empty history that retains about {@code budget} bytes of changes.
+     */
+    public UndoRedoHistory(long budget) {
+        setBudget(budget);
+    }
+
+    /**
+     * Sets the number of bytes of changes to retain, dropping the oldest steps if needed.
+     */
+    public void setBudget(long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Undo history budget must not be negative");
+        }
+        this.budget = budget;
+        trim();
+    }
+
+    /**
+     * Closes the current step and starts a new one for the next command's changes.
+     */
+    public void beginStep() {
+        closeStep();
+        openStep = new Step();
+    }
+
+    /**
+     * Records {@code change} in the open step. Any undone steps can no longer be redone afterwards.
+     */
+    public void record(ModelChange change) {
+        requireNonNull(change);
+        if (openStep == null) {
+            openStep = new Step();
+        }
+        for (Step step : redoSteps) {
+            size -= step.size;
+        }
+        redoSteps.clear();
+
+        long changeSize = change.estimateSize();
+        openStep.add(change, changeSize);
+        size += changeSize;
+        trim();
+    }
+
+    /**
+     * Forgets the open step without reverting its changes, for when they have been reverted by other means.
+     */
+    public void discardOpenStep() {
+        if (openStep != null) {
+            size -= openStep.size;
+            openStep = null;
+        }
+    }
+
+    public boolean canUndo() {
+        return (openStep != null && !openStep.isEmpty()) || !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent step.
+     *
+     * @return the changes made to the model, in the order they were applied.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public List<ModelChange> undo(AddressBook addressBook, Timeslots timeslots) {
+        if (!canUndo()) {
+            throw new IllegalStateException("No previous state to undo!");
+        }
+        closeStep();
+        Step step = undoSteps.pop();
+        List<ModelChange> applied = step.undo(addressBook, timeslots);
+        redoSteps.push(step);
+        return applied;
+    }
+
+    /**
+     * Re-applies the most recently undone step.
+     *
+     * @return the changes made to the model, in the order they were applied.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public List<ModelChange> redo(AddressBook addressBook, Timeslots timeslots) {
+        if (!canRedo()) {
+            throw new IllegalStateException("No undone state to redo!");
+        }
+        closeStep();
+        Step step = redoSteps.pop();
+        List<ModelChange> applied = step.redo(addressBook, timeslots);
+        undoSteps.push(step);
+        return applied;
+    }
+
+    private void closeStep() {
+        if (openStep != null && !openStep.isEmpty()) {
+            undoSteps.push(openStep);
+        }
+        openStep = null;
+    }
+
+    /**
+     * Drops the oldest undo steps until the history fits its budget, keeping at least the latest step.
+     */
+    private void trim() {
+        boolean hasOpenChanges = openStep != null && !openStep.isEmpty();
+        while (size > budget && (undoSteps.size() > 1 || (hasOpenChanges && !undoSteps.isEmpty()))) {
+            Step dropped = undoSteps.removeLast();
+            size -= dropped.size;
+            logger.fine("Dropped oldest undo step to stay within budget of " + budget + " bytes");
+        }
+    }
+
+    /**
+     * The changes made by a single command.
+     */
+    private static class Step {
+        private final List<ModelChange> changes = new ArrayList<>();
+        private long size;
+
+        void add(ModelChange change, long changeSize) {
+            changes.add(change);
+            size += changeSize;
+        }
+
+        boolean isEmpty() {
+            return changes.isEmpty();
+        }
+
+        List<ModelChange> undo(AddressBook addressBook, Timeslots timeslots) {
+            List<ModelChange> applied = new ArrayList<>();
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(addressBook, timeslots);
+                applied.add(changes.get(i).inverse());
+            }
+            return applied;
+        }
+
+        List<ModelChange> redo(AddressBook addressBook, Timeslots timeslots) {
+            for (ModelChange change : changes) {
+                change.redo(addressBook, timeslots);
+            }
+            return List.copyOf(changes);
+        }
+    }
+}
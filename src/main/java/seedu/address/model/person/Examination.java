@@ -35,23 +35,13 @@ public class Examination implements Gradeable {
 
     @Override
     public void setScore(double inputScore) throws InvalidScoreException {
-        if (inputScore < 0 || inputScore > maxScore) {
-            throw new InvalidScoreException(
-                    String.format(INVALID_SCORE_FORMAT, inputScore, maxScore),
-                    maxScore
-            );
-        }
+        requireValidScore(inputScore, maxScore);
         this.score = Optional.of(inputScore / maxScore * 100.0);
     }
 
     @Override
     public void setPercentageScore(double score) {
-        if (score < 0 || score > 100.0) {
-            throw new InvalidScoreException(
-                    String.format(INVALID_SCORE_FORMAT, score, 100.0),
-                    100.0
-            );
-        }
+        requireValidScore(score, 100.0);
         this.score = Optional.of(score);
     }
 
@@ -73,6 +63,21 @@ public class Examination implements Gradeable {
                 && Double.compare(this.maxScore, other.maxScore) == 0
                 && this.score.equals(other.score);
     }
+
+    /**
+     * Checks that {@code score} lies between 0 and {@code maxScore}.
+     *
+     * @throws InvalidScoreException if it does not.
+     */
+    static void requireValidScore(double score, double maxScore) throws InvalidScoreException {
+        if (score < 0 || score > maxScore) {
+            throw new InvalidScoreException(
+                    String.format(INVALID_SCORE_FORMAT, score, maxScore),
+                    maxScore
+            );
+        }
+    }
+
     public static double getMaxScoreFor(String name) {
         return switch (name.toLowerCase()) {
         case "pe1" -> MAX_PE1_SCORE;
@@ -54,6 +54,22 @@ public class Exercise {
         }
     }
 
+    /**
+     * Returns the status of exercise {@code exerciseNumber} without creating an {@code Exercise}.
+     * @param exerciseNumber the exercise number
+     * @param isDone the completion status of the exercise
+     * @param currentWeek the current week number in the semester
+     */
+    public static Status getStatus(int exerciseNumber, boolean isDone, int currentWeek) {
+        if (isDone) {
+            return Status.DONE;
+        } else if (exerciseNumber < (currentWeek - EXERCISE_WEEK_DIFFERENCE)) {
+            return Status.OVERDUE;
+        } else {
+            return Status.NOT_DONE;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
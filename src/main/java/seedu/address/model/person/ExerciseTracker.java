@@ -3,14 +3,17 @@ package seedu.address.model.person;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.Week;
 
 /**
  * Represents a Person's address in the address book.
+ * Completion is packed into a bitmask (bit {@code i} set means exercise {@code i} is done), so trackers are cheap
+ * to compare. Trackers are immutable: marking an exercise returns a new tracker.
+ * Whether an exercise is overdue depends on the current {@link Week}, which is supplied when the status is read.
  */
 public class ExerciseTracker implements Comparable<ExerciseTracker> {
 
@@ -18,45 +21,59 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
     public static final int NUMBER_OF_EXERCISES = 10;
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
     private static final String INDEX_OUT_OF_FOUNDS_FORMAT = "Index should be between 0 and %s";
-    private static int currentWeekNumber;
-    private ArrayList<Exercise> exercises = new ArrayList<>();
+    private static final String ALREADY_MARKED_FORMAT = "Exercise %d has already been marked as %s";
+    private final short doneMask;
 
     /**
      * Initialises statuses to all be not done
      */
     public ExerciseTracker() {
-        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            exercises.add(new Exercise(i, false, currentWeekNumber));
-        }
-        assert exercises.size() == NUMBER_OF_EXERCISES : "Exercise tracker must have exactly 10 exercises";
+        this((short) 0);
     }
     /**
      * Initializes exercises using a list of statuses.
      * Each index corresponds to an exercise number.
      */
     public ExerciseTracker(ArrayList<Boolean> isDoneList) {
+        this(toMask(isDoneList));
+    }
+
+    private ExerciseTracker(short doneMask) {
+        this.doneMask = doneMask;
+    }
+
+    private static short toMask(ArrayList<Boolean> isDoneList) {
         assert isDoneList != null : "Statuses list must not be null";
         if (isDoneList.size() > NUMBER_OF_EXERCISES) {
             throw new IllegalArgumentException("Too many statuses! Expected at most " + NUMBER_OF_EXERCISES);
         }
-        this.exercises = new ArrayList<>();
+        short mask = 0;
         for (int i = 0; i < isDoneList.size(); i++) {
-            exercises.add(new Exercise(i, isDoneList.get(i), currentWeekNumber));
-        }
-        for (int i = isDoneList.size(); i < NUMBER_OF_EXERCISES; i++) {
-            exercises.add(new Exercise(i, false, currentWeekNumber));
+            if (isDoneList.get(i)) {
+                mask |= (short) (1 << i);
+            }
         }
+        return mask;
     }
 
-    public static void setCurrentWeek(int week) {
-        currentWeekNumber = week;
+    private boolean isDone(int index) {
+        return (doneMask & (1 << index)) != 0;
     }
 
+    /**
+     * Returns the completion records only, without overdue statuses, so the result does not depend on the current
+     * week.
+     */
     @Override
     public String toString() {
-        return exercises.stream()
-                .map(Exercise::toString)
-                .collect(Collectors.joining(" "));
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            if (i > 0) {
+                result.append(" ");
+            }
+            result.append(String.format("ex %d: %s", i, isDone(i) ? Status.DONE : Status.NOT_DONE));
+        }
+        return result.toString();
     }
 
     @Override
@@ -68,34 +85,47 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
             return false;
         }
         ExerciseTracker otherTracker = (ExerciseTracker) other;
-        return exercises.equals(otherTracker.exercises);
+        return doneMask == otherTracker.doneMask;
     }
 
     @Override
     public int hashCode() {
-        return exercises.hashCode();
+        return doneMask;
     }
     public ArrayList<Boolean> getIsDoneList() {
-        assert exercises != null && !exercises.isEmpty() : "Exercises must be initialized";
-        return exercises.stream()
-                .map(Exercise::isDone)
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<Boolean> isDoneList = new ArrayList<>(NUMBER_OF_EXERCISES);
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            isDoneList.add(isDone(i));
+        }
+        return isDoneList;
     }
 
     /**
-     * Marks the exercise at the given index with the status
+     * Returns a copy of this tracker with the exercise at the given index marked with the status.
      * @param index of the exercise
      * @param isDone to mark the exercise with
+     * @throws IllegalStateException if the exercise is already marked with the status.
      */
-    public void markExercise(Index index, boolean isDone) {
+    public ExerciseTracker markExercise(Index index, boolean isDone) {
         logger.info(String.format("Marking ex %d with %s", index.getOneBased(), isDone));
-        if (index.getZeroBased() < 0 || index.getZeroBased() >= NUMBER_OF_EXERCISES) {
+        int i = index.getZeroBased();
+        if (i < 0 || i >= NUMBER_OF_EXERCISES) {
             throw new IndexOutOfBoundsException(
                     String.format(INDEX_OUT_OF_FOUNDS_FORMAT,
                             NUMBER_OF_EXERCISES - 1)
             );
         }
-        exercises.get(index.getZeroBased()).markStatus(isDone);
+        if (isDone(i) == isDone) {
+            throw new IllegalStateException(String.format(ALREADY_MARKED_FORMAT, i, isDone ? "done" : "not done"));
+        }
+        return new ExerciseTracker((short) (doneMask ^ (1 << i)));
+    }
+
+    /**
+     * Returns the number of exercises marked as done.
+     */
+    public int getDoneCount() {
+        return Integer.bitCount(doneMask & 0xFFFF);
     }
 
     /**
@@ -103,13 +133,7 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
      * @return the progress between 0.0 and 100.0.
      */
     public double calculateProgress() {
-        double count = 0;
-        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            Status status = exercises.get(i).getStatus();
-            if (status == Status.DONE) {
-                count++;
-            }
-        }
+        double count = getDoneCount();
         return count / NUMBER_OF_EXERCISES * 100.0;
     }
 
@@ -159,16 +183,21 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
     }
 
     /**
-     * Returns a deep copy of this ExerciseTracker.
-     * @return a new ExerciseTracker with copied data
+     * Returns the status of every exercise as of {@code currentWeek}.
      */
-    public ExerciseTracker copy() {
-        ArrayList<Boolean> copiedStatuses = new ArrayList<>(this.getIsDoneList());
-        return new ExerciseTracker(copiedStatuses);
+    public List<Status> getStatuses(Week currentWeek) {
+        List<Status> statuses = new ArrayList<>(NUMBER_OF_EXERCISES);
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            statuses.add(getStatus(i, currentWeek));
+        }
+        return statuses;
     }
 
-    public List<Status> getStatuses() {
-        return exercises.stream().map(Exercise::getStatus).toList();
+    /**
+     * Returns the status of the exercise at {@code index} as of {@code currentWeek}.
+     */
+    public Status getStatus(int index, Week currentWeek) {
+        return Exercise.getStatus(index, isDone(index), currentWeek.getWeekNumber());
     }
 }
 
@@ -4,8 +4,10 @@ import static seedu.address.logic.parser.GradeCommandParser.MESSAGE_INVALID_EXAM
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
@@ -13,30 +15,79 @@ import seedu.address.model.person.exceptions.InvalidExamNameException;
 import seedu.address.model.person.exceptions.InvalidScoreException;
 
 /**
- * Wraps a HashMap with String keys and Gradeable values.
+ * Holds the percentage score of each exam in {@code VALID_EXAM_NAMES}.
+ *
+ * Scores are kept in a {@code double[]} indexed by the exam's position in {@code VALID_EXAM_NAMES}, with
+ * {@code NaN} marking an ungraded exam, so grading and reading scores allocates nothing.
  */
 public class GradeMap {
     public static final String[] VALID_EXAM_NAMES = {"pe1", "midterm", "pe2", "final"};
+    private static final double[] MAX_SCORES = Arrays.stream(VALID_EXAM_NAMES)
+            .mapToDouble(Examination::getMaxScoreFor)
+            .toArray();
+    private static final double UNGRADED_SCORE = -1.0;
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    private final HashMap<String, Gradeable> gradeableHashMap;
+
+    private final double[] scores;
+
     /**
-     * Fills the hashmap with the keys
+     * Creates a grade map with every exam ungraded.
      */
     public GradeMap() {
-        gradeableHashMap = new HashMap<>();
-        for (String assessment : VALID_EXAM_NAMES) {
-            gradeableHashMap.put(
-                    assessment,
-                    new Examination(assessment)
-            );
+        scores = new double[VALID_EXAM_NAMES.length];
+        Arrays.fill(scores, Double.NaN);
+    }
+
+    private GradeMap(double[] scores) {
+        this.scores = scores;
+    }
+
+    /**
+     * Returns the position of exam {@code name} in {@code VALID_EXAM_NAMES}, or -1 if it is not a valid exam.
+     */
+    public static int indexOfExam(String name) {
+        for (int i = 0; i < VALID_EXAM_NAMES.length; i++) {
+            if (VALID_EXAM_NAMES[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the percentage score of the exam at {@code examIndex}, or -1.0 if it is ungraded.
+     */
+    public double getScore(int examIndex) {
+        double score = scores[examIndex];
+        return Double.isNaN(score) ? UNGRADED_SCORE : score;
+    }
+
+    public boolean isGraded(int examIndex) {
+        return !Double.isNaN(scores[examIndex]);
+    }
+
+    /**
+     * Returns the mean percentage score over the graded exams, or -1.0 if no exam is graded.
+     */
+    public double getAverageScore() {
+        double total = 0;
+        int gradedCount = 0;
+        for (double score : scores) {
+            if (!Double.isNaN(score)) {
+                total += score;
+                gradedCount++;
+            }
         }
+        return gradedCount == 0 ? UNGRADED_SCORE : total / gradedCount;
     }
+
     @Override
     public String toString() {
-        return Arrays.stream(VALID_EXAM_NAMES)
-                .map(a -> gradeableHashMap.get(a).toString())
+        return IntStream.range(0, VALID_EXAM_NAMES.length)
+                .mapToObj(i -> VALID_EXAM_NAMES[i] + ": " + (isGraded(i) ? Double.toString(scores[i]) : "NA"))
                 .collect(Collectors.joining(", "));
     }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -46,15 +97,42 @@ public class GradeMap {
             return false; // different type
         }
         GradeMap other = (GradeMap) obj;
-        return this.gradeableHashMap.equals(other.gradeableHashMap);
+        return Arrays.equals(scores, other.scores);
     }
 
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(scores);
+    }
+
+    /**
+     * Returns the exams as a map from exam name to {@code Examination}.
+     * The map and its exams are built on each call, so changing them does not change this grade map.
+     */
     public HashMap<String, Gradeable> getGradeableHashMap() {
+        HashMap<String, Gradeable> gradeableHashMap = new HashMap<>();
+        for (int i = 0; i < VALID_EXAM_NAMES.length; i++) {
+            Examination exam = new Examination(VALID_EXAM_NAMES[i]);
+            if (isGraded(i)) {
+                exam.setPercentageScore(scores[i]);
+            }
+            gradeableHashMap.put(VALID_EXAM_NAMES[i], exam);
+        }
         return gradeableHashMap;
     }
 
+    /**
+     * Sets the score of exam {@code key} to that of {@code exam}.
+     *
+     * @throws IllegalArgumentException if {@code key} is not a valid exam name.
+     */
     public void putExam(String key, Examination exam) {
-        gradeableHashMap.put(key, exam);
+        int index = indexOfExam(key);
+        if (index == -1) {
+            throw new IllegalArgumentException("Unknown exam: " + key);
+        }
+        double score = exam.getScore();
+        scores[index] = score == UNGRADED_SCORE ? Double.NaN : score;
     }
 
     /**
@@ -62,11 +140,14 @@ public class GradeMap {
      * @param name of the exam to be graded
      * @param score to grade the exam with
      * @throws InvalidExamNameException if the exam name is not in the list of valid exam names
+     * @throws InvalidScoreException if the score is not between 0 and the exam's maximum score
      */
     public void gradeExam(String name, double score) throws InvalidExamNameException {
-        logger.info(String.format("Grading %s with %.2f", name, score));
-        Gradeable exam = gradeableHashMap.get(name);
-        if (exam == null) {
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(String.format("Grading %s with %.2f", name, score));
+        }
+        int index = indexOfExam(name);
+        if (index == -1) {
             throw new InvalidExamNameException(
                     String.format(MESSAGE_INVALID_EXAM_NAME_FORMAT,
                         name,
@@ -74,7 +155,8 @@ public class GradeMap {
                     )
             );
         }
-        exam.setScore(score);
+        Examination.requireValidScore(score, MAX_SCORES[index]);
+        scores[index] = score / MAX_SCORES[index] * 100.0;
     }
 
     /**
@@ -82,23 +164,6 @@ public class GradeMap {
      * @return a new GradeMap with copied data
      */
     public GradeMap copy() {
-        GradeMap newGradeMap = new GradeMap();
-
-        for (String examName : VALID_EXAM_NAMES) {
-            Gradeable original = this.gradeableHashMap.get(examName);
-            Gradeable copied = newGradeMap.gradeableHashMap.get(examName);
-            if (original instanceof Examination) {
-                Examination originalExam = (Examination) original;
-                if (originalExam.getScore() != -1.0) {
-                    try {
-                        copied.setPercentageScore(originalExam.getScore());
-                    } catch (InvalidScoreException e) {
-                        throw new RuntimeException("Unexpected error copying valid score", e);
-                    }
-                }
-            }
-        }
-        return newGradeMap;
+        return new GradeMap(scores.clone());
     }
 }
-
@@ -60,6 +60,23 @@ public class Lab implements LabAttendance {
         }
     }
 
+    /**
+     * Returns the status string of lab {@code labNumber} without creating a {@code Lab}.
+     *
+     * @param labNumber The lab number (one-based)
+     * @param isAttended Whether the lab was attended
+     * @param currentWeek The current week number in the semester
+     */
+    public static String getStatus(int labNumber, boolean isAttended, int currentWeek) {
+        if (isAttended) {
+            return "Y";
+        } else if (labNumber + LAB_WEEK_DIFFERENCE < currentWeek) {
+            return "A";
+        } else {
+            return "N";
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -1,21 +1,34 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a collection of lab attendance statuses.
  */
 public interface LabAttendanceList extends Comparable<LabAttendanceList> {
 
     /**
-     * Marks the specified lab session as attended.
+     * Returns a copy of this list with the specified lab session marked as attended.
+     * @param index the zero-based index of the lab session.
+     */
+    public LabAttendanceList markLabAsAttended(int index);
+
+    /**
+     * Returns a copy of this list with the specified lab session marked as not attended.
      * @param index the zero-based index of the lab session.
      */
-    public void markLabAsAttended(int index);
+    public LabAttendanceList markLabAsAbsent(int index);
 
     /**
-     * Marks the specified lab session as not attended.
+     * Returns whether the specified lab session has been attended.
      * @param index the zero-based index of the lab session.
      */
-    public void markLabAsAbsent(int index);
+    public boolean isLabAttended(int index);
+
+    /**
+     * Returns the number of lab sessions attended.
+     */
+    public int getAttendedCount();
 
     /**
      * Calculates the lab attendance rate as a percentage.
@@ -23,5 +36,9 @@ public interface LabAttendanceList extends Comparable<LabAttendanceList> {
      */
     public double calculateLabAttendance();
 
-    LabAttendance[] getLabs();
+    /**
+     * Returns the lab sessions with their statuses as of the given week.
+     * @param currentWeek the current week of the semester.
+     */
+    LabAttendance[] getLabs(Week currentWeek);
 }
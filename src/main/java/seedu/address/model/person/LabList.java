@@ -1,7 +1,12 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a collection of lab attendance records for a student across all lab sessions.
+ * Attendance is packed into a bitmask (bit {@code i} set means lab {@code i + 1} was attended), so a list costs a
+ * couple of words rather than {@code NUMBER_OF_LABS} objects. Lists are immutable: marking a lab returns a new list.
+ * Whether an unattended lab is absent depends on the current {@link Week}, which is supplied when the status is read.
  */
 public class LabList implements LabAttendanceList {
     public static final int NUMBER_OF_LABS = 10;
@@ -9,14 +14,13 @@ public class LabList implements LabAttendanceList {
             "Lab attendance list should be in the format 'L1: Y/N ... L10: Y/N'";
     public static final String MESSAGE_INDEX_OUT_OF_BOUNDS =
             "Lab index out of bounds! Lab index should be between 1 and %d";
-    private static int currentWeek = 0;
-    private final LabAttendance[] labs;
+    private final short attendedMask;
 
     /**
      * Constructs a {@code LabList} with all labs initialized to not attended.
      */
     public LabList() {
-        this(createDefaultLabs(currentWeek));
+        this((short) 0);
     }
 
     /**
@@ -25,40 +29,52 @@ public class LabList implements LabAttendanceList {
      * @param labs an array of {@code Lab} objects representing the lab attendance records
      */
     public LabList(LabAttendance[] labs) {
-        assert labs.length == NUMBER_OF_LABS : "Wrong number of labs";
-        this.labs = labs;
+        this(toMask(labs));
     }
 
-    private static LabAttendance[] createDefaultLabs(int currentWeek) {
-        LabAttendance[] labAttendanceList = new LabAttendance[NUMBER_OF_LABS];
-        for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            labAttendanceList[i] = new Lab(i + 1, currentWeek);
-        }
-        return labAttendanceList;
+    private LabList(short attendedMask) {
+        this.attendedMask = attendedMask;
     }
 
-    public static int getCurrentWeek() {
-        return currentWeek;
+    private static short toMask(LabAttendance[] labs) {
+        assert labs.length == NUMBER_OF_LABS : "Wrong number of labs";
+        short mask = 0;
+        for (int i = 0; i < NUMBER_OF_LABS; i++) {
+            if (labs[i].isAttended()) {
+                mask |= (short) (1 << i);
+            }
+        }
+        return mask;
     }
 
-    public static void setCurrentWeek(int week) {
-        currentWeek = week;
+    @Override
+    public LabList markLabAsAttended(int index) {
+        checkIndex(index);
+        if (isLabAttended(index)) {
+            throw new IllegalStateException("Lab Attendance has already been marked as attended");
+        }
+        return new LabList((short) (attendedMask | (1 << index)));
     }
 
     @Override
-    public void markLabAsAttended(int index) {
-        if (index < 0 || index >= NUMBER_OF_LABS) {
-            throw new IndexOutOfBoundsException(String.format(MESSAGE_INDEX_OUT_OF_BOUNDS, NUMBER_OF_LABS));
+    public LabList markLabAsAbsent(int index) {
+        checkIndex(index);
+        if (!isLabAttended(index)) {
+            throw new IllegalStateException("Lab Attendance has already been marked as not attended");
         }
-        labs[index].markAsAttended();
+        return new LabList((short) (attendedMask & ~(1 << index)));
     }
 
     @Override
-    public void markLabAsAbsent(int index) {
+    public boolean isLabAttended(int index) {
+        checkIndex(index);
+        return (attendedMask & (1 << index)) != 0;
+    }
+
+    private static void checkIndex(int index) {
         if (index < 0 || index >= NUMBER_OF_LABS) {
             throw new IndexOutOfBoundsException(String.format(MESSAGE_INDEX_OUT_OF_BOUNDS, NUMBER_OF_LABS));
         }
-        labs[index].markAsAbsent();
     }
 
     @Override
@@ -72,37 +88,32 @@ public class LabList implements LabAttendanceList {
         }
 
         LabList otherLabList = (LabList) other;
-        for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            if (this.labs[i].isAttended() != otherLabList.labs[i].isAttended()) {
-                return false;
-            }
-        }
-        return true;
+        return attendedMask == otherLabList.attendedMask;
+    }
+
+    @Override
+    public int hashCode() {
+        return attendedMask;
     }
 
     /**
-     * Creates and returns a copy of this LabList with all the same attendance states.
+     * Returns the status of the lab at {@code index} as of {@code currentWeek}.
      *
-     * @return a new LabList with copied attendance records
+     * @param index the zero-based index of the lab session
+     * @param currentWeek the current week of the semester
      */
-    public LabList copy() {
-        LabAttendance[] copiedLabs = new LabAttendance[NUMBER_OF_LABS];
-        for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            Lab originalLab = (Lab) this.labs[i];
-            Lab newLab = new Lab(i + 1, currentWeek);
-            if (originalLab.isAttended()) {
-                newLab.markAsAttended();
-            }
-            copiedLabs[i] = newLab;
-        }
-        return new LabList(copiedLabs);
+    public String getLabStatus(int index, Week currentWeek) {
+        return Lab.getStatus(index + 1, isLabAttended(index), currentWeek.getWeekNumber());
     }
 
+    /**
+     * Returns the attendance records only, without absences, so the result does not depend on the current week.
+     */
     @Override
     public String toString() {
         StringBuilder result = new StringBuilder();
         for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            result.append(labs[i].toString()).append(" ");
+            result.append(String.format("L%d: %s", i + 1, isLabAttended(i) ? "Y" : "N")).append(" ");
         }
         return result.toString();
     }
@@ -138,18 +149,31 @@ public class LabList implements LabAttendanceList {
         return true;
     }
 
-    public LabAttendance[] getLabs() {
+    /**
+     * Returns a snapshot of the labs in this list, with statuses as of {@code currentWeek}.
+     * The returned {@code Lab} objects are built on demand, so marking them does not affect this list.
+     */
+    @Override
+    public LabAttendance[] getLabs(Week currentWeek) {
+        LabAttendance[] labs = new LabAttendance[NUMBER_OF_LABS];
+        for (int i = 0; i < NUMBER_OF_LABS; i++) {
+            Lab lab = new Lab(i + 1, currentWeek.getWeekNumber());
+            if (isLabAttended(i)) {
+                lab.markAsAttended();
+            }
+            labs[i] = lab;
+        }
         return labs;
     }
 
+    @Override
+    public int getAttendedCount() {
+        return Integer.bitCount(attendedMask & 0xFFFF);
+    }
+
     @Override
     public double calculateLabAttendance() {
-        double count = 0;
-        for (LabAttendance lab: labs) {
-            if (lab.isAttended()) {
-                count++;
-            }
-        }
+        double count = getAttendedCount();
         return count / NUMBER_OF_LABS * 100;
     }
 
@@ -13,6 +13,10 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Lab attendance, exercise progress and average grade are derived once on construction, so sorting reads primitive
+ * keys. The tracker, lab list and grade map passed in must therefore not be changed afterwards; commands edit a copy
+ * and replace the person instead.
  */
 public class Person {
 
@@ -28,6 +32,11 @@ public class Person {
     private final ExerciseTracker exerciseTracker;
     private final GradeMap gradeMap;
 
+    // Derived fields
+    private final int labsAttendedCount;
+    private final int exercisesDoneCount;
+    private final double averageGrade;
+
     /**
      * Every field must be present and not null.
      */
@@ -43,6 +52,9 @@ public class Person {
         this.githubUsername = githubUsername;
         this.labAttendanceList = new LabList();
         this.gradeMap = new GradeMap();
+        this.labsAttendedCount = labAttendanceList.getAttendedCount();
+        this.exercisesDoneCount = exerciseTracker.getDoneCount();
+        this.averageGrade = gradeMap.getAverageScore();
     }
 
     /**
@@ -61,6 +73,9 @@ public class Person {
         this.githubUsername = githubUsername;
         this.labAttendanceList = labAttendanceList;
         this.gradeMap = gradeMap;
+        this.labsAttendedCount = labAttendanceList.getAttendedCount();
+        this.exercisesDoneCount = exerciseTracker.getDoneCount();
+        this.averageGrade = gradeMap.getAverageScore();
     }
 
     public StudentId getStudentId() {
@@ -103,6 +118,21 @@ public class Person {
         return gradeMap;
     }
 
+    public int getLabsAttendedCount() {
+        return labsAttendedCount;
+    }
+
+    public int getExercisesDoneCount() {
+        return exercisesDoneCount;
+    }
+
+    /**
+     * Returns the mean percentage score over graded exams, or -1.0 if no exam is graded.
+     */
+    public double getAverageGrade() {
+        return averageGrade;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
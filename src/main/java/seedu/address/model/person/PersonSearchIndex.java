@@ -0,0 +1,244 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams (substrings of {@code GRAM_LENGTH} characters) of each searchable field to the
+ * persons containing them.
+ *
+ * Each indexed person is given a small document number, and each posting list is a sorted array of the document
+ * numbers containing its trigram. A keyword of at least {@code GRAM_LENGTH} characters intersects the postings of its
+ * trigrams and then confirms each remaining candidate, which keeps the case-insensitive substring matching of the
+ * {@code find} predicates without scanning every person. Shorter keywords have no trigram to look up, so they are
+ * answered by scanning the stored field values.
+ */
+public class PersonSearchIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<SearchField, Map<String, Posting>> postingsByField = new EnumMap<>(SearchField.class);
+    private final Map<StudentId, Integer> documentById = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonSearchIndex() {
+        for (SearchField field : SearchField.values()) {
+            postingsByField.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexes the searchable fields of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int document = freeDocuments.isEmpty() ? documents.size() : freeDocuments.pop();
+        Document entry = new Document(person.getStudentId(), new EnumMap<>(SearchField.class));
+        if (document == documents.size()) {
+            documents.add(entry);
+        } else {
+            documents.set(document, entry);
+        }
+        documentById.put(person.getStudentId(), document);
+        for (SearchField field : SearchField.values()) {
+            List<String> values = field.getLowerCaseValues(person);
+            entry.values().put(field, values);
+            addGrams(field, document, values);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer document = documentById.remove(person.getStudentId());
+        if (document == null) {
+            return;
+        }
+        Document entry = documents.get(document);
+        for (SearchField field : SearchField.values()) {
+            removeGrams(field, document, entry.values().get(field));
+        }
+        documents.set(document, null);
+        freeDocuments.push(document);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, reindexing only the fields whose values changed.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Integer document = documentById.remove(target.getStudentId());
+        if (document == null) {
+            add(editedPerson);
+            return;
+        }
+        documentById.put(editedPerson.getStudentId(), document);
+        Document entry = new Document(editedPerson.getStudentId(), documents.get(document).values());
+        documents.set(document, entry);
+        for (SearchField field : SearchField.values()) {
+            List<String> values = entry.values().get(field);
+            List<String> editedValues = field.getLowerCaseValues(editedPerson);
+            if (!editedValues.equals(values)) {
+                removeGrams(field, document, values);
+                addGrams(field, document, editedValues);
+                entry.values().put(field, editedValues);
+            }
+        }
+    }
+
+    private void addGrams(SearchField field, int document, List<String> values) {
+        Map<String, Posting> postings = postingsByField.get(field);
+        for (String gram : gramsOf(values)) {
+            postings.computeIfAbsent(gram, unused -> new Posting()).add(document);
+        }
+    }
+
+    private void removeGrams(SearchField field, int document, List<String> values) {
+        Map<String, Posting> postings = postingsByField.get(field);
+        for (String gram : gramsOf(values)) {
+            Posting posting = postings.get(gram);
+            posting.remove(document);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of persons whose {@code field} contains any of {@code keywords}, ignoring case.
+     */
+    public Set<StudentId> search(SearchField field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        Set<StudentId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            search(field, keyword.toLowerCase(), matches);
+        }
+        return matches;
+    }
+
+    private void search(SearchField field, String keyword, Set<StudentId> matches) {
+        if (keyword.length() < GRAM_LENGTH) {
+            for (Document entry : documents) {
+                if (entry != null && entry.contains(field, keyword)) {
+                    matches.add(entry.id());
+                }
+            }
+            return;
+        }
+
+        Map<String, Posting> postings = postingsByField.get(field);
+        List<Posting> gramPostings = new ArrayList<>();
+        for (String gram : gramsOf(List.of(keyword))) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return;
+            }
+            gramPostings.add(posting);
+        }
+        gramPostings.sort(Comparator.comparingInt(Posting::size));
+
+        Posting smallest = gramPostings.get(0);
+        for (int i = 0; i < smallest.size(); i++) {
+            int candidate = smallest.get(i);
+            Document entry = documents.get(candidate);
+            if (isInAll(candidate, gramPostings) && entry.contains(field, keyword)) {
+                matches.add(entry.id());
+            }
+        }
+    }
+
+    private static boolean isInAll(int document, List<Posting> postings) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every distinct substring of {@code GRAM_LENGTH} characters of {@code values}.
+     */
+    private static Set<String> gramsOf(List<String> values) {
+        Set<String> grams = new HashSet<>();
+        for (String value : values) {
+            for (int start = 0; start + GRAM_LENGTH <= value.length(); start++) {
+                grams.add(value.substring(start, start + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * The lower-cased field values of an indexed person.
+     */
+    private record Document(StudentId id, Map<SearchField, List<String>> values) {
+        boolean contains(SearchField field, String keyword) {
+            return values.get(field).stream().anyMatch(value -> value.contains(keyword));
+        }
+    }
+
+    /**
+     * A sorted set of document numbers, stored in a growable {@code int} array.
+     */
+    private static class Posting {
+        private int[] documents = new int[2];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int i) {
+            return documents[i];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int document) {
+            return Arrays.binarySearch(documents, 0, size, document) >= 0;
+        }
+
+        void add(int document) {
+            int position = Arrays.binarySearch(documents, 0, size, document);
+            if (position >= 0) {
+                return;
+            }
+            int insertionPoint = -position - 1;
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            System.arraycopy(documents, insertionPoint, documents, insertionPoint + 1, size - insertionPoint);
+            documents[insertionPoint] = document;
+            size++;
+        }
+
+        void remove(int document) {
+            int position = Arrays.binarySearch(documents, 0, size, document);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(documents, position + 1, documents, position, size - position - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The {@code Person} fields that {@code find} can search, and how to read each one.
+ */
+public enum SearchField {
+    STUDENT_ID(person -> List.of(person.getStudentId().toString())),
+    NAME(person -> List.of(person.getName().fullName)),
+    EMAIL(person -> List.of(person.getEmail().toString())),
+    GITHUB_USERNAME(person -> List.of(person.getGithubUsername().toString())),
+    PHONE(person -> List.of(person.getPhone().toString())),
+    TAG(person -> person.getTags().stream().map(Tag::getTagName).toList());
+
+    private final Function<Person, List<String>> reader;
+
+    SearchField(Function<Person, List<String>> reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the values of this field in {@code person}, in lower case.
+     */
+    public List<String> getLowerCaseValues(Person person) {
+        return reader.apply(person).stream().map(String::toLowerCase).toList();
+    }
+}
@@ -3,14 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.PersistentList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -21,20 +29,34 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An index from {@code StudentId} to list position is kept alongside the backing list, so identity lookups do not
+ * need to scan the whole list. Inserting or removing a person does not renumber the persons after it; their
+ * positions are repaired when they are next looked up, and only as far as the person looked up.
+ * A {@code PersistentList} copy of the contents is also kept in step, so {@link #snapshot()} can hand out the
+ * current state without copying it. A {@code PersonSearchIndex} for keyword searches is built on the first search
+ * and kept in step from then on. The index is updated before the backing list, so searches made by listeners of the
+ * list already see the change.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Integer> positionById = new HashMap<>();
+    /** The positions below this are known to be correct in {@code positionById}. */
+    private int verifiedPositions;
+    private PersistentList<Person> persistentPersons = PersistentList.empty();
+    private PersonSearchIndex searchIndex;
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionById.containsKey(toCheck.getStudentId());
     }
 
     /**
@@ -46,9 +68,35 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        modificationCount++;
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
+        positionById.put(toAdd.getStudentId(), internalList.size());
+        persistentPersons = persistentPersons.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        modificationCount++;
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
+        positionById.put(toAdd.getStudentId(), index);
+        // Persons after the inserted one have shifted up by one position
+        verifiedPositions = Math.min(verifiedPositions, index);
+        persistentPersons = persistentPersons.add(index, toAdd);
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -57,7 +105,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +114,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        modificationCount++;
+        if (searchIndex != null) {
+            searchIndex.update(target, editedPerson);
+        }
+        positionById.remove(target.getStudentId());
+        positionById.put(editedPerson.getStudentId(), index);
+        persistentPersons = persistentPersons.set(index, editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -75,9 +130,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        modificationCount++;
+        if (searchIndex != null) {
+            searchIndex.remove(toRemove);
+        }
+        positionById.remove(toRemove.getStudentId());
+        // Persons after the removed one have shifted down by one position
+        verifiedPositions = Math.min(verifiedPositions, index);
+        persistentPersons = persistentPersons.remove(index);
+        internalList.remove(index);
     }
 
     /**
@@ -86,11 +152,15 @@ public class UniquePersonList implements Iterable<Person> {
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
         FXCollections.sort(internalList, comparator);
+        rebuildIndex();
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        modificationCount++;
+        searchIndex = null;
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -103,7 +173,50 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        modificationCount++;
+        searchIndex = null;
         internalList.setAll(persons);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the current contents of this list as an immutable snapshot in O(1).
+     * Later changes to this list do not affect the returned snapshot.
+     */
+    public PersistentList<Person> snapshot() {
+        return persistentPersons;
+    }
+
+    /**
+     * Starts grouping changes to the list into a single change notification, sent by the matching
+     * {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the ids of persons with a field in {@code keywordsByField} that contains any of its keywords, ignoring
+     * case. The returned set is a live view of this list: it searches again whenever the list has changed.
+     */
+    public Set<StudentId> search(Map<SearchField, List<String>> keywordsByField) {
+        requireNonNull(keywordsByField);
+        return new SearchResult(Map.copyOf(keywordsByField));
+    }
+
+    private PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex();
+            internalList.forEach(searchIndex::add);
+        }
+        return searchIndex;
     }
 
     /**
@@ -143,15 +256,99 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of {@code person} in the list, or -1 if no person with exactly the same fields exists.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        int index = positionOf(person.getStudentId());
+        if (index == -1 || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the person with {@code id}, or -1 if there is none.
+     * A stale position is repaired by renumbering the persons from the first unverified position up to that person.
+     */
+    private int positionOf(StudentId id) {
+        Integer position = positionById.get(id);
+        if (position == null) {
+            return -1;
+        }
+        if (position < internalList.size() && internalList.get(position).getStudentId().equals(id)) {
+            return position;
+        }
+        // Every person below verifiedPositions has a correct position, so this person is further on
+        for (int i = verifiedPositions; i < internalList.size(); i++) {
+            StudentId idAtPosition = internalList.get(i).getStudentId();
+            positionById.put(idAtPosition, i);
+            verifiedPositions = i + 1;
+            if (idAtPosition.equals(id)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Person with a position is not in the list: " + id);
+    }
+
+    /**
+     * Recomputes the position of every person after the list has been reordered or replaced.
+     */
+    private void rebuildIndex() {
+        persistentPersons = PersistentList.of(internalList);
+        positionById.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positionById.put(internalList.get(i).getStudentId(), i);
+        }
+        verifiedPositions = internalList.size();
+    }
+
+    /**
+     * The ids found by a search, found again whenever the list has changed since.
+     */
+    private class SearchResult extends AbstractSet<StudentId> {
+        private final Map<SearchField, List<String>> keywordsByField;
+        private Set<StudentId> ids;
+        private long searchedAt;
+
+        SearchResult(Map<SearchField, List<String>> keywordsByField) {
+            this.keywordsByField = keywordsByField;
+        }
+
+        private Set<StudentId> getIds() {
+            if (ids == null || searchedAt != modificationCount) {
+                ids = new HashSet<>();
+                keywordsByField.forEach((field, keywords) -> ids.addAll(getSearchIndex().search(field, keywords)));
+                searchedAt = modificationCount;
+            }
+            return ids;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return getIds().contains(o);
+        }
+
+        @Override
+        public Iterator<StudentId> iterator() {
+            return Collections.unmodifiableSet(getIds()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return getIds().size();
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<StudentId> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIds.add(person.getStudentId())) {
+                return false;
             }
         }
         return true;
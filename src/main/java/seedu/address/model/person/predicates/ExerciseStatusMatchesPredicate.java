@@ -1,11 +1,10 @@
 package seedu.address.model.person.predicates;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Status;
 
@@ -16,25 +15,25 @@ import seedu.address.model.person.Status;
 public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
     private Status status;
     private Index index;
+    private Week currentWeek;
 
     /**
      * Constructs a predicate that matches a {@code Person} if their {@code Exericse} status
-     * matches the status of the exercise stated.
+     * matches the status of the exercise stated as of the current week.
      *
      * @param index {@code Index} of the exercise you are trying to filter for.
      * @param status {@code Status} of the exercise chosen.
+     * @param currentWeek the current {@code Week}, which decides whether an exercise not done is overdue.
      */
-    public ExerciseStatusMatchesPredicate(Index index, Status status) {
+    public ExerciseStatusMatchesPredicate(Index index, Status status, Week currentWeek) {
         this.index = index;
         this.status = status;
+        this.currentWeek = currentWeek;
     }
 
     @Override
     public boolean test(Person person) {
-        ExerciseTracker exerciseTracker = person.getExerciseTracker();
-        List<Status> exercises = exerciseTracker.getStatuses();
-        int number = index.getZeroBased();
-        return exercises.get(number).equals(status);
+        return person.getExerciseTracker().getStatus(index.getZeroBased(), currentWeek).equals(status);
     }
 
     @Override
@@ -50,7 +49,8 @@ public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
 
         ExerciseStatusMatchesPredicate otherPredicate = (ExerciseStatusMatchesPredicate) other;
         return status.equals(otherPredicate.status)
-                && index.equals(otherPredicate.index);
+                && index.equals(otherPredicate.index)
+                && currentWeek.equals(otherPredicate.currentWeek);
     }
 
     @Override
@@ -58,6 +58,7 @@ public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
         return new ToStringBuilder(this)
                 .add("Status", status)
                 .add("index", index)
+                .add("currentWeek", currentWeek)
                 .toString();
     }
 }
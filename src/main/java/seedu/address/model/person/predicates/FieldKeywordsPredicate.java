@@ -0,0 +1,18 @@
+package seedu.address.model.person.predicates;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+
+/**
+ * A {@code Predicate} that matches a {@code Person} whose {@code SearchField} contains any of the given keywords.
+ * Such predicates can be answered from the person search index instead of testing every person.
+ */
+public interface FieldKeywordsPredicate extends Predicate<Person> {
+
+    SearchField getField();
+
+    List<String> getKeywords();
+}
@@ -1,22 +1,32 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 
 /**
  * Tests that a {@code Person}'s {@code Github Username} matches any of the keywords given.
  */
-public class GithubContainsKeywordsPredicate implements Predicate<Person> {
+public class GithubContainsKeywordsPredicate implements FieldKeywordsPredicate {
     private final List<String> keywords;
 
     public GithubContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField getField() {
+        return SearchField.GITHUB_USERNAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         String github = person.getGithubUsername().toString().toLowerCase();
@@ -4,8 +4,6 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.LabAttendance;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
 
 
@@ -30,10 +28,7 @@ public class LabStatusMatchesPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        LabList labAttendanceList = (LabList) person.getLabAttendanceList();
-        LabAttendance[] labAttendances = labAttendanceList.getLabs();
-        int number = index.getZeroBased();
-        return labAttendances[number].isAttended() == status;
+        return person.getLabAttendanceList().isLabAttended(index.getZeroBased()) == status;
     }
 
     @Override
@@ -12,7 +12,7 @@ public class LabSortCriterion extends SortCriterion {
 
     @Override
     public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getLabAttendanceList, Comparator.reverseOrder());
+        return Comparator.comparingInt(Person::getLabsAttendedCount).reversed();
     }
 
     @Override
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinarySnapshotFormat}.
+ * JSON files are still read, so existing data is converted the next time it is saved.
+ */
+public class BinaryAddressBookStorage extends JsonAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Creates a storage that gzip-compresses the file at {@code compressionLevel}, unless it is
+     * {@code FileUtil.NO_COMPRESSION}.
+     */
+    public BinaryAddressBookStorage(Path filePath, int compressionLevel) {
+        super(filePath, compressionLevel);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, getCompressionLevel(),
+                out -> BinarySnapshotFormat.writeAddressBook(addressBook, out));
+    }
+
+}
@@ -0,0 +1,389 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Examination;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GithubUsername;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.LabAttendanceList;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.InvalidScoreException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Reads and writes address books and timeslots in a compact, versioned binary layout.
+ *
+ * Each file starts with a 4-byte magic number and a version byte. Counts and lengths are unsigned varints, strings
+ * are UTF-8, lab attendance, exercises and graded exams are bitmasks, and timeslots are stored as epoch minutes
+ * (of the local date-time) with a duration, falling back to seconds and nanoseconds for times that are not on a
+ * whole minute.
+ */
+final class BinarySnapshotFormat {
+
+    static final int VERSION = 1;
+
+    private static final byte[] ADDRESS_BOOK_MAGIC = {'L', 'L', 'A', 'B'};
+    private static final byte[] TIMESLOTS_MAGIC = {'L', 'L', 'T', 'S'};
+    private static final int MAX_STRING_BYTES = 1 << 16;
+
+    private static final int FLAG_STUDENT_NAME = 1;
+    private static final int FLAG_EXACT_TIME = 1 << 1;
+
+    private BinarySnapshotFormat() {}
+
+    /**
+     * Returns true if {@code file} starts with the magic number of a binary address book.
+     */
+    static boolean isBinaryAddressBook(Path file) throws IOException {
+        return startsWith(file, ADDRESS_BOOK_MAGIC);
+    }
+
+    /**
+     * Returns true if {@code file} starts with the magic number of binary timeslots.
+     */
+    static boolean isBinaryTimeslots(Path file) throws IOException {
+        return startsWith(file, TIMESLOTS_MAGIC);
+    }
+
+    private static boolean startsWith(Path file, byte[] magic) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = FileUtil.openForReading(file)) {
+            return Arrays.equals(in.readNBytes(magic.length), magic);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        DataOutputStream data = new DataOutputStream(out);
+        writeHeader(data, ADDRESS_BOOK_MAGIC);
+        writeVarInt(data, addressBook.getCurrentWeek().getWeekNumber());
+        writeVarInt(data, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(data, person);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads an address book written by {@link #writeAddressBook} from {@code in}.
+     *
+     * @throws IOException if the data is truncated or not a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        readHeader(data, ADDRESS_BOOK_MAGIC);
+        AddressBook addressBook = new AddressBook();
+        int weekNumber = readVarInt(data);
+        if (weekNumber < Week.MIN_WEEK || weekNumber > Week.MAX_WEEK) {
+            throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
+        }
+        addressBook.setCurrentWeek(new Week(weekNumber));
+        int count = readVarInt(data);
+        for (int i = 0; i < count; i++) {
+            Person person = readPerson(data);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code timeslots} to {@code out}.
+     */
+    static void writeTimeslots(ReadOnlyTimeslots timeslots, OutputStream out) throws IOException {
+        requireNonNull(timeslots);
+        DataOutputStream data = new DataOutputStream(out);
+        writeHeader(data, TIMESLOTS_MAGIC);
+        writeVarInt(data, timeslots.getTimeslotList().size());
+        for (Timeslot timeslot : timeslots.getTimeslotList()) {
+            writeTimeslot(data, timeslot);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads timeslots written by {@link #writeTimeslots} from {@code in}.
+     *
+     * @throws IOException if the data is truncated or not binary timeslots.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Timeslots readTimeslots(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        readHeader(data, TIMESLOTS_MAGIC);
+        Timeslots timeslots = new Timeslots();
+        int count = readVarInt(data);
+        for (int i = 0; i < count; i++) {
+            timeslots.addTimeslot(readTimeslot(data));
+        }
+        return timeslots;
+    }
+
+    private static void writeHeader(DataOutputStream data, byte[] magic) throws IOException {
+        data.write(magic);
+        data.writeByte(VERSION);
+    }
+
+    private static void readHeader(DataInputStream data, byte[] magic) throws IOException {
+        byte[] header = new byte[magic.length];
+        data.readFully(header);
+        if (!Arrays.equals(header, magic)) {
+            throw new IOException("Not a binary data file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary data file version: " + version);
+        }
+    }
+
+    private static void writePerson(DataOutputStream data, Person person) throws IOException {
+        writeString(data, person.getStudentId().value);
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getPhone().value);
+        writeString(data, person.getEmail().value);
+        writeString(data, person.getGithubUsername().value);
+
+        writeVarInt(data, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(data, tag.tagName);
+        }
+
+        int doneMask = 0;
+        ArrayList<Boolean> isDoneList = person.getExerciseTracker().getIsDoneList();
+        for (int i = 0; i < isDoneList.size(); i++) {
+            if (isDoneList.get(i)) {
+                doneMask |= 1 << i;
+            }
+        }
+        writeVarInt(data, doneMask);
+
+        int attendedMask = 0;
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            if (person.getLabAttendanceList().isLabAttended(i)) {
+                attendedMask |= 1 << i;
+            }
+        }
+        writeVarInt(data, attendedMask);
+
+        GradeMap gradeMap = person.getGradeMap();
+        int gradedMask = 0;
+        for (int i = 0; i < GradeMap.VALID_EXAM_NAMES.length; i++) {
+            if (gradeMap.isGraded(i)) {
+                gradedMask |= 1 << i;
+            }
+        }
+        writeVarInt(data, gradedMask);
+        for (int i = 0; i < GradeMap.VALID_EXAM_NAMES.length; i++) {
+            if (gradeMap.isGraded(i)) {
+                data.writeDouble(gradeMap.getScore(i));
+            }
+        }
+    }
+
+    private static Person readPerson(DataInputStream data) throws IOException, IllegalValueException {
+        String studentId = readString(data);
+        checkField(StudentId.isValidStudentId(studentId), StudentId.MESSAGE_CONSTRAINTS);
+        String name = readString(data);
+        checkField(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+        String phone = readString(data);
+        checkField(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+        String email = readString(data);
+        checkField(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+        String githubUsername = readString(data);
+        checkField(GithubUsername.isValidGithubUsername(githubUsername), GithubUsername.MESSAGE_CONSTRAINTS);
+
+        int tagCount = readVarInt(data);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(data);
+            checkField(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+            tags.add(new Tag(tagName));
+        }
+
+        int doneMask = readVarInt(data);
+        checkField(doneMask >>> ExerciseTracker.NUMBER_OF_EXERCISES == 0, ExerciseTracker.MESSAGE_CONSTRAINTS);
+        ArrayList<Boolean> isDoneList = new ArrayList<>();
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            isDoneList.add((doneMask & (1 << i)) != 0);
+        }
+
+        int attendedMask = readVarInt(data);
+        checkField(attendedMask >>> LabList.NUMBER_OF_LABS == 0, LabList.MESSAGE_CONSTRAINTS);
+        LabAttendanceList labAttendanceList = new LabList();
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            if ((attendedMask & (1 << i)) != 0) {
+                labAttendanceList = labAttendanceList.markLabAsAttended(i);
+            }
+        }
+
+        int gradedMask = readVarInt(data);
+        checkField(gradedMask >>> GradeMap.VALID_EXAM_NAMES.length == 0, "Unknown graded exam");
+        GradeMap gradeMap = new GradeMap();
+        for (int i = 0; i < GradeMap.VALID_EXAM_NAMES.length; i++) {
+            if ((gradedMask & (1 << i)) != 0) {
+                Examination exam = new Examination(GradeMap.VALID_EXAM_NAMES[i]);
+                try {
+                    exam.setPercentageScore(data.readDouble());
+                } catch (InvalidScoreException e) {
+                    throw new IllegalValueException(e.getMessage());
+                }
+                gradeMap.putExam(GradeMap.VALID_EXAM_NAMES[i], exam);
+            }
+        }
+
+        return new Person(new StudentId(studentId), new Name(name), new Phone(phone), new Email(email), tags,
+                new GithubUsername(githubUsername), new ExerciseTracker(isDoneList), labAttendanceList, gradeMap);
+    }
+
+    private static void writeTimeslot(DataOutputStream data, Timeslot timeslot) throws IOException {
+        String studentName = timeslot.getStudentName();
+        boolean hasStudentName = studentName != null && !studentName.isEmpty();
+        LocalDateTime start = timeslot.getStart();
+        LocalDateTime end = timeslot.getEnd();
+        boolean isExact = !isWholeMinute(start) || !isWholeMinute(end);
+
+        data.writeByte((hasStudentName ? FLAG_STUDENT_NAME : 0) | (isExact ? FLAG_EXACT_TIME : 0));
+        long startSecond = start.toEpochSecond(ZoneOffset.UTC);
+        long endSecond = end.toEpochSecond(ZoneOffset.UTC);
+        if (isExact) {
+            writeVarLong(data, zigZag(startSecond));
+            writeVarInt(data, start.getNano());
+            writeVarLong(data, zigZag(endSecond - startSecond));
+            writeVarInt(data, end.getNano());
+        } else {
+            writeVarLong(data, zigZag(startSecond / 60));
+            writeVarLong(data, zigZag((endSecond - startSecond) / 60));
+        }
+        if (hasStudentName) {
+            writeString(data, studentName);
+        }
+    }
+
+    private static Timeslot readTimeslot(DataInputStream data) throws IOException, IllegalValueException {
+        int flags = data.readUnsignedByte();
+        LocalDateTime start;
+        LocalDateTime end;
+        try {
+            if ((flags & FLAG_EXACT_TIME) != 0) {
+                long startSecond = unZigZag(readVarLong(data));
+                start = LocalDateTime.ofEpochSecond(startSecond, readVarInt(data), ZoneOffset.UTC);
+                long endSecond = startSecond + unZigZag(readVarLong(data));
+                end = LocalDateTime.ofEpochSecond(endSecond, readVarInt(data), ZoneOffset.UTC);
+            } else {
+                long startMinute = unZigZag(readVarLong(data));
+                start = LocalDateTime.ofEpochSecond(startMinute * 60, 0, ZoneOffset.UTC);
+                end = start.plusMinutes(unZigZag(readVarLong(data)));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalValueException("Invalid timeslot time: " + e.getMessage());
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalValueException("End time must be after start time");
+        }
+
+        if ((flags & FLAG_STUDENT_NAME) != 0) {
+            return new ConsultationTimeslot(start, end, readString(data));
+        }
+        return new Timeslot(start, end);
+    }
+
+    private static boolean isWholeMinute(LocalDateTime dateTime) {
+        return dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+    }
+
+    private static void checkField(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        int length = readVarInt(data);
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("String of " + length + " bytes is too long");
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        writeVarLong(data, Integer.toUnsignedLong(value));
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        long value = readVarLong(data);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
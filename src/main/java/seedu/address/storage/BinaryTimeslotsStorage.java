@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTimeslots;
+
+/**
+ * A class to access Timeslots data stored in the compact binary format of {@link BinarySnapshotFormat}.
+ * JSON files are still read, so existing data is converted the next time it is saved.
+ */
+public class BinaryTimeslotsStorage extends JsonTimeslotsStorage {
+
+    public BinaryTimeslotsStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Creates a storage that gzip-compresses the file at {@code compressionLevel}, unless it is
+     * {@code FileUtil.NO_COMPRESSION}.
+     */
+    public BinaryTimeslotsStorage(Path filePath, int compressionLevel) {
+        super(filePath, compressionLevel);
+    }
+
+    @Override
+    public void saveTimeslots(ReadOnlyTimeslots timeslots, Path filePath) throws IOException {
+        requireNonNull(timeslots);
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, getCompressionLevel(),
+                out -> BinarySnapshotFormat.writeTimeslots(timeslots, out));
+    }
+
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.Timeslots;
+import seedu.address.model.history.ModelChange;
+
+/**
+ * Represents an append-only journal of the changes made by each command.
+ * The journal is applied on top of the data files it was started from, so saving a command only appends its changes
+ * instead of rewriting every file.
+ */
+public interface CommandJournalStorage {
+
+    /**
+     * Returns the file path of the journal.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Appends {@code changes} to the journal, or replaces the journal with a checkpoint of {@code addressBook} and
+     * {@code timeslots} once enough records have built up. {@code addressBook} and {@code timeslots} must be the
+     * state right after {@code changes} were made.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots)
+            throws IOException;
+
+    /**
+     * Replaces the journal with a single checkpoint of {@code addressBook} and {@code timeslots}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void writeCheckpoint(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException;
+
+    /**
+     * Applies the journal to {@code addressBook} and {@code timeslots}, which must hold the data the journal was
+     * started from. Does nothing if there is no journal.
+     *
+     * @return true if a journal was found.
+     * @throws DataLoadingException if the journal could not be read or applied.
+     */
+    boolean replayJournal(AddressBook addressBook, Timeslots timeslots) throws DataLoadingException;
+
+    /**
+     * Deletes the journal, if any.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void deleteJournal() throws IOException;
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.UserPrefs.DataFormat;
+
+/**
+ * Creates the storage for each {@link DataFormat} and converts data files between formats.
+ */
+public class DataFileConverter {
+
+    private DataFileConverter() {}
+
+    /**
+     * Returns an {@code AddressBookStorage} at {@code filePath} that saves in {@code format}, gzip-compressed at
+     * {@code compressionLevel} unless it is {@code FileUtil.NO_COMPRESSION}.
+     */
+    public static JsonAddressBookStorage createAddressBookStorage(Path filePath, DataFormat format,
+            int compressionLevel) {
+        requireNonNull(format);
+        return format == DataFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath, compressionLevel)
+                : new JsonAddressBookStorage(filePath, compressionLevel);
+    }
+
+    /**
+     * Returns a {@code TimeslotsStorage} at {@code filePath} that saves in {@code format}, gzip-compressed at
+     * {@code compressionLevel} unless it is {@code FileUtil.NO_COMPRESSION}.
+     */
+    public static JsonTimeslotsStorage createTimeslotsStorage(Path filePath, DataFormat format,
+            int compressionLevel) {
+        requireNonNull(format);
+        return format == DataFormat.BINARY
+                ? new BinaryTimeslotsStorage(filePath, compressionLevel)
+                : new JsonTimeslotsStorage(filePath, compressionLevel);
+    }
+
+    /**
+     * Reads the address book at {@code source}, in either format, and writes it to {@code target} in {@code format}.
+     * {@code source} and {@code target} may be the same file, and {@code target} is written uncompressed.
+     *
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code source} does not exist or {@code target} could not be written.
+     */
+    public static void convertAddressBook(Path source, Path target, DataFormat format)
+            throws DataLoadingException, IOException {
+        requireNonNull(target);
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(source).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        createAddressBookStorage(target, format, FileUtil.NO_COMPRESSION).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Reads the timeslots at {@code source}, in either format, and writes them to {@code target} in {@code format}.
+     * {@code source} and {@code target} may be the same file, and {@code target} is written uncompressed.
+     *
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code source} does not exist or {@code target} could not be written.
+     */
+    public static void convertTimeslots(Path source, Path target, DataFormat format)
+            throws DataLoadingException, IOException {
+        requireNonNull(target);
+        ReadOnlyTimeslots timeslots = new JsonTimeslotsStorage(source).readTimeslots()
+                .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        createTimeslotsStorage(target, format, FileUtil.NO_COMPRESSION).saveTimeslots(timeslots);
+    }
+}
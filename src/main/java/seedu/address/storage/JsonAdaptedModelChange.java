@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.history.ModelChange;
+
+/**
+ * Jackson-friendly version of a {@link ModelChange}, stored as one record of the command journal.
+ * Only the fields used by the record's {@code type} are set. A {@code checkpoint} record holds a full snapshot of
+ * the address book and timeslots, which later records are applied on top of.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedModelChange {
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown journal record type: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    static final String TYPE_CHECKPOINT = "checkpoint";
+    static final String TYPE_PERSON_ADDED = "personAdded";
+    static final String TYPE_PERSON_REMOVED = "personRemoved";
+    static final String TYPE_PERSON_REPLACED = "personReplaced";
+    static final String TYPE_WEEK_CHANGED = "weekChanged";
+    static final String TYPE_ADDRESS_BOOK_REPLACED = "addressBookReplaced";
+    static final String TYPE_TIMESLOT_ADDED = "timeslotAdded";
+    static final String TYPE_TIMESLOT_REMOVED = "timeslotRemoved";
+    static final String TYPE_TIMESLOTS_REPLACED = "timeslotsReplaced";
+
+    private final String type;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final Integer week;
+    private final JsonAdaptedTimeslot timeslot;
+    private final JsonSerializableAddressBook addressBook;
+    private final JsonSerializableTimeslots timeslots;
+
+    /**
+     * Constructs a {@code JsonAdaptedModelChange} with the given fields.
+     */
+    @JsonCreator
+    public JsonAdaptedModelChange(@JsonProperty("type") String type,
+                                  @JsonProperty("index") Integer index,
+                                  @JsonProperty("person") JsonAdaptedPerson person,
+                                  @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+                                  @JsonProperty("week") Integer week,
+                                  @JsonProperty("timeslot") JsonAdaptedTimeslot timeslot,
+                                  @JsonProperty("addressBook") JsonSerializableAddressBook addressBook,
+                                  @JsonProperty("timeslots") JsonSerializableTimeslots timeslots) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.week = week;
+        this.timeslot = timeslot;
+        this.addressBook = addressBook;
+        this.timeslots = timeslots;
+    }
+
+    /**
+     * Returns a checkpoint record holding {@code addressBook} and {@code timeslots}.
+     */
+    public static JsonAdaptedModelChange checkpoint(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) {
+        return new JsonAdaptedModelChange(TYPE_CHECKPOINT, null, null, null, null, null,
+                new JsonSerializableAddressBook(addressBook), new JsonSerializableTimeslots(timeslots));
+    }
+
+    /**
+     * Converts a given {@code ModelChange} into this class for Jackson use.
+     * Only the state after the change is kept for week and whole-data replacements, as replaying never needs more.
+     */
+    public static JsonAdaptedModelChange of(ModelChange change) {
+        requireNonNull(change);
+        if (change instanceof ModelChange.PersonAdded added) {
+            return new JsonAdaptedModelChange(TYPE_PERSON_ADDED, added.index(),
+                    new JsonAdaptedPerson(added.person()), null, null, null, null, null);
+        } else if (change instanceof ModelChange.PersonRemoved removed) {
+            return new JsonAdaptedModelChange(TYPE_PERSON_REMOVED, removed.index(),
+                    new JsonAdaptedPerson(removed.person()), null, null, null, null, null);
+        } else if (change instanceof ModelChange.PersonReplaced replaced) {
+            return new JsonAdaptedModelChange(TYPE_PERSON_REPLACED, null, new JsonAdaptedPerson(replaced.before()),
+                    new JsonAdaptedPerson(replaced.after()), null, null, null, null);
+        } else if (change instanceof ModelChange.WeekChanged weekChanged) {
+            return new JsonAdaptedModelChange(TYPE_WEEK_CHANGED, null, null, null,
+                    weekChanged.after().getWeekNumber(), null, null, null);
+        } else if (change instanceof ModelChange.AddressBookReplaced replaced) {
+            return new JsonAdaptedModelChange(TYPE_ADDRESS_BOOK_REPLACED, null, null, null, null, null,
+                    new JsonSerializableAddressBook(replaced.after()), null);
+        } else if (change instanceof ModelChange.TimeslotAdded added) {
+            return new JsonAdaptedModelChange(TYPE_TIMESLOT_ADDED, added.index(), null, null, null,
+                    new JsonAdaptedTimeslot(added.timeslot()), null, null);
+        } else if (change instanceof ModelChange.TimeslotRemoved removed) {
+            return new JsonAdaptedModelChange(TYPE_TIMESLOT_REMOVED, removed.index(), null, null, null,
+                    new JsonAdaptedTimeslot(removed.timeslot()), null, null);
+        } else if (change instanceof ModelChange.TimeslotsReplaced replaced) {
+            return new JsonAdaptedModelChange(TYPE_TIMESLOTS_REPLACED, null, null, null, null, null, null,
+                    new JsonSerializableTimeslots(replaced.after()));
+        }
+        throw new IllegalArgumentException("Unsupported change: " + change.getClass().getSimpleName());
+    }
+
+    public boolean isCheckpoint() {
+        return TYPE_CHECKPOINT.equals(type);
+    }
+
+    /**
+     * Applies this record to {@code addressBook} and {@code timeslots}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(AddressBook addressBook, Timeslots timeslots) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        switch (type) {
+        case TYPE_CHECKPOINT:
+            addressBook.resetData(require(this.addressBook, "addressBook").toModelType());
+            timeslots.resetData(require(this.timeslots, "timeslots").toModelType());
+            break;
+        case TYPE_PERSON_ADDED:
+            new ModelChange.PersonAdded(require(index, "index"), require(person, "person").toModelType())
+                    .redo(addressBook, timeslots);
+            break;
+        case TYPE_PERSON_REMOVED:
+            new ModelChange.PersonRemoved(require(index, "index"), require(person, "person").toModelType())
+                    .redo(addressBook, timeslots);
+            break;
+        case TYPE_PERSON_REPLACED:
+            new ModelChange.PersonReplaced(require(person, "person").toModelType(),
+                    require(editedPerson, "editedPerson").toModelType()).redo(addressBook, timeslots);
+            break;
+        case TYPE_WEEK_CHANGED:
+            int weekNumber = require(week, "week");
+            if (weekNumber < Week.MIN_WEEK || weekNumber > Week.MAX_WEEK) {
+                throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
+            }
+            addressBook.setCurrentWeek(new Week(weekNumber));
+            break;
+        case TYPE_ADDRESS_BOOK_REPLACED:
+            addressBook.resetData(require(this.addressBook, "addressBook").toModelType());
+            break;
+        case TYPE_TIMESLOT_ADDED:
+            new ModelChange.TimeslotAdded(require(index, "index"), require(timeslot, "timeslot").toModelType())
+                    .redo(addressBook, timeslots);
+            break;
+        case TYPE_TIMESLOT_REMOVED:
+            new ModelChange.TimeslotRemoved(require(index, "index"), require(timeslot, "timeslot").toModelType())
+                    .redo(addressBook, timeslots);
+            break;
+        case TYPE_TIMESLOTS_REPLACED:
+            timeslots.resetData(require(this.timeslots, "timeslots").toModelType());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Jackson-friendly manifest of an address book whose persons are split across shard files.
+ * The manifest holds everything that is not a person: the number of shards, the current week, and the order of
+ * the persons as a list of their student IDs.
+ */
+class JsonAddressBookManifest {
+
+    private final int shardCount;
+    private final int currentWeek;
+    private final List<String> studentIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} with the given fields.
+     */
+    @JsonCreator
+    public JsonAddressBookManifest(@JsonProperty("shardCount") int shardCount,
+                                   @JsonProperty("currentWeek") int currentWeek,
+                                   @JsonProperty("studentIds") List<String> studentIds) {
+        this.shardCount = shardCount;
+        this.currentWeek = currentWeek;
+        if (studentIds != null) {
+            this.studentIds.addAll(studentIds);
+        }
+    }
+
+    /**
+     * Converts the non-person data of {@code source} into a manifest for {@code shardCount} shards.
+     */
+    public JsonAddressBookManifest(ReadOnlyAddressBook source, int shardCount) {
+        this.shardCount = shardCount;
+        this.currentWeek = source.getCurrentWeek().getWeekNumber();
+        source.getPersonList().forEach(person -> studentIds.add(person.getStudentId().value));
+    }
+
+    /**
+     * Returns false if this was read from a file that is not a manifest, such as an unsharded address book.
+     */
+    @JsonIgnore
+    public boolean isManifest() {
+        return shardCount > 0;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int getCurrentWeek() {
+        return currentWeek;
+    }
+
+    public List<String> getStudentIds() {
+        return studentIds;
+    }
+}
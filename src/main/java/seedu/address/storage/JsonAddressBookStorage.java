@@ -3,10 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,21 +20,37 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Files in the binary format of {@link BinaryAddressBookStorage} and address books split into shards by
+ * {@link ShardedAddressBookStorage} are detected and read as well.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage that gzip-compresses the file at {@code compressionLevel}, unless it is
+     * {@code FileUtil.NO_COMPRESSION}. Compressed files are detected and read regardless of this level.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,14 +65,47 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        if (isBinary(filePath)) {
+            return Optional.of(readBinaryAddressBook(filePath));
+        }
+        // An address book that was split into shards is read whole, so it is joined up again when next saved
+        Optional<ReadOnlyAddressBook> shardedAddressBook = ShardedAddressBookStorage.readShardedAddressBook(filePath);
+        if (shardedAddressBook.isPresent()) {
+            return shardedAddressBook;
+        }
+        logger.info("JSON file " + filePath + " found.");
 
+        // Persons are converted one at a time while the file is parsed, rather than after reading all of it
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static boolean isBinary(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return BinarySnapshotFormat.isBinaryAddressBook(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static ReadOnlyAddressBook readBinaryAddressBook(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return BinarySnapshotFormat.readAddressBook(in);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -72,8 +125,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, compressionLevel);
     }
 
 }
@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.Timeslots;
+import seedu.address.model.history.ModelChange;
+
+/**
+ * A command journal stored as a JSON Lines file, one {@link JsonAdaptedModelChange} per line.
+ *
+ * Once more than {@code checkpointInterval} records follow the last checkpoint, or a command replaces the whole
+ * address book or timeslots, the journal is atomically replaced by a single checkpoint record so that replaying it
+ * stays cheap. A trailing line that cannot be read, as left by a crash mid-append, is dropped when replaying.
+ */
+public class JsonCommandJournalStorage implements CommandJournalStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonCommandJournalStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+    private int recordsSinceCheckpoint;
+
+    public JsonCommandJournalStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a journal at {@code filePath} that is checkpointed after {@code checkpointInterval} records.
+     */
+    public JsonCommandJournalStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void appendChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook,
+            ReadOnlyTimeslots timeslots) throws IOException {
+        requireAllNonNull(changes, addressBook, timeslots);
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (recordsSinceCheckpoint + changes.size() > checkpointInterval
+                || changes.stream().anyMatch(JsonCommandJournalStorage::isWholeDataReplacement)) {
+            writeCheckpoint(addressBook, timeslots);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (ModelChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedModelChange.of(change))).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.writeString(filePath, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        recordsSinceCheckpoint += changes.size();
+    }
+
+    @Override
+    public void writeCheckpoint(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException {
+        requireAllNonNull(addressBook, timeslots);
+        logger.fine("Writing journal checkpoint to " + filePath);
+        JsonAdaptedModelChange checkpoint = JsonAdaptedModelChange.checkpoint(addressBook, timeslots);
+        FileUtil.writeAtomically(filePath, out -> JsonUtil.writeJsonLine(out, checkpoint));
+        recordsSinceCheckpoint = 0;
+    }
+
+    @Override
+    public boolean replayJournal(AddressBook addressBook, Timeslots timeslots) throws DataLoadingException {
+        requireAllNonNull(addressBook, timeslots);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("Replaying command journal " + filePath);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        recordsSinceCheckpoint = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedModelChange record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedModelChange.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last record of journal " + filePath);
+                    repair(addressBook, timeslots);
+                    return true;
+                }
+                logger.warning("Error reading record " + (i + 1) + " of journal " + filePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                record.applyTo(addressBook, timeslots);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.info("Record " + (i + 1) + " of journal " + filePath + " could not be applied: "
+                        + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+            recordsSinceCheckpoint = record.isCheckpoint() ? 0 : recordsSinceCheckpoint + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Replaces a journal ending in a torn record with a checkpoint, so later appends start on a fresh line.
+     */
+    private void repair(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws DataLoadingException {
+        try {
+            writeCheckpoint(addressBook, timeslots);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void deleteJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        recordsSinceCheckpoint = 0;
+    }
+
+    private static boolean isWholeDataReplacement(ModelChange change) {
+        return change instanceof ModelChange.AddressBookReplaced || change instanceof ModelChange.TimeslotsReplaced;
+    }
+}
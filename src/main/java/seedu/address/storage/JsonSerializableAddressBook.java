@@ -1,19 +1,21 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Week;
-import seedu.address.model.person.ExerciseTracker;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,7 +26,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    static final int READ_BATCH_SIZE = 4096;
+
+    private final List<JsonAdaptedPerson> persons;
     @JsonProperty("currentWeek")
     private final int currentWeek;
 
@@ -34,7 +38,7 @@ class JsonSerializableAddressBook {
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("currentWeek") int currentWeek) {
-        this.persons.addAll(persons);
+        this.persons = new ArrayList<>(persons);
         this.currentWeek = currentWeek;
     }
 
@@ -44,7 +48,19 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        // Persons are adapted one at a time as they are written, so saving never holds an adapted copy of them all.
+        List<Person> sourcePersons = source.getPersonList();
+        persons = new AbstractList<>() {
+            @Override
+            public JsonAdaptedPerson get(int index) {
+                return new JsonAdaptedPerson(sourcePersons.get(index));
+            }
+
+            @Override
+            public int size() {
+                return sourcePersons.size();
+            }
+        };
         this.currentWeek = source.getCurrentWeek().getWeekNumber();
     }
 
@@ -56,15 +72,51 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         addressBook.setCurrentWeek(new Week(currentWeek));
-        LabList.setCurrentWeek(currentWeek);
-        ExerciseTracker.setCurrentWeek(currentWeek);
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        PersonRecordConverter converter = new PersonRecordConverter(addressBook);
+        converter.convert(persons);
+        converter.finish();
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting persons into the model a batch at a time as they are
+     * parsed instead of holding the whole document first. Each batch is added to the address book as soon as it is
+     * converted. Fields other than the persons and current week are skipped.
+     *
+     * @throws IOException if the input is not an address book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        PersonRecordConverter converter = new PersonRecordConverter(addressBook);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("persons".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                // Records are parsed in order, but each batch of them is converted in parallel
+                List<JsonAdaptedPerson> batch = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected a person object");
+                    }
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == READ_BATCH_SIZE) {
+                        converter.convert(batch);
+                        batch.clear();
+                    }
+                }
+                converter.convert(batch);
+            } else if ("currentWeek".equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                addressBook.setCurrentWeek(new Week(parser.getIntValue()));
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
         }
+        converter.finish();
         return addressBook;
     }
 
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,21 +18,36 @@ import seedu.address.model.ReadOnlyTimeslots;
 
 /**
  * A class to access Timeslots data stored as a json file on the hard disk.
+ * Files in the binary format of {@link BinaryTimeslotsStorage} are detected and read as well.
  */
 public class JsonTimeslotsStorage implements TimeslotsStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTimeslotsStorage.class);
 
     private Path filePath;
+    private int compressionLevel;
 
     public JsonTimeslotsStorage(Path filePath) {
+        this(filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage that gzip-compresses the file at {@code compressionLevel}, unless it is
+     * {@code FileUtil.NO_COMPRESSION}. Compressed files are detected and read regardless of this level.
+     */
+    public JsonTimeslotsStorage(Path filePath, int compressionLevel) {
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getTimeslotsFilePath() {
         return filePath;
     }
 
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
     @Override
     public Optional<ReadOnlyTimeslots> readTimeslots() throws DataLoadingException {
         return readTimeslots(filePath);
@@ -45,6 +62,9 @@ public class JsonTimeslotsStorage implements TimeslotsStorage {
     public Optional<ReadOnlyTimeslots> readTimeslots(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        if (Files.exists(filePath) && isBinary(filePath)) {
+            return Optional.of(readBinaryTimeslots(filePath));
+        }
         Optional<JsonSerializableTimeslots> jsonTimeslots = JsonUtil.readJsonFile(
                 filePath, JsonSerializableTimeslots.class);
         if (!jsonTimeslots.isPresent()) {
@@ -59,6 +79,28 @@ public class JsonTimeslotsStorage implements TimeslotsStorage {
         }
     }
 
+    private static boolean isBinary(Path filePath) throws DataLoadingException {
+        try {
+            return BinarySnapshotFormat.isBinaryTimeslots(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static ReadOnlyTimeslots readBinaryTimeslots(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return BinarySnapshotFormat.readTimeslots(in);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
     @Override
     public void saveTimeslots(ReadOnlyTimeslots timeslots) throws IOException {
         saveTimeslots(timeslots, filePath);
@@ -72,8 +114,7 @@ public class JsonTimeslotsStorage implements TimeslotsStorage {
     public void saveTimeslots(ReadOnlyTimeslots timeslots, Path filePath) throws IOException {
         requireNonNull(timeslots);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTimeslots(timeslots), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableTimeslots(timeslots), filePath, compressionLevel);
     }
 
 }
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts batches of {@code JsonAdaptedPerson} records into the model's {@code Person} objects, adding each batch to
+ * an address book as soon as it is converted, so that no list of every person is held on the side.
+ *
+ * Large batches are validated and built across all cores. Every invalid record is collected instead of stopping at
+ * the first, so that {@link #finish()} can report them together. Duplicates are found by the address book's hash
+ * lookup as each person is added.
+ */
+class PersonRecordConverter {
+
+    public static final String MESSAGE_INVALID_PERSONS = "Found %d invalid person record(s):";
+    public static final String MESSAGE_INVALID_RECORD = "\nRecord %d: %s";
+    public static final String MESSAGE_MORE_INVALID_RECORDS = "\n...and %d more";
+
+    static final int PARALLEL_THRESHOLD = 512;
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private final AddressBook addressBook;
+    private final List<String> errors = new ArrayList<>();
+    private int recordCount;
+    private int invalidCount;
+    private boolean hasDuplicate;
+
+    /**
+     * Creates a converter that adds the persons it converts to {@code addressBook}.
+     */
+    public PersonRecordConverter(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Converts {@code records}, which follow any records converted earlier, and adds them to the address book.
+     * Nothing more is added once an invalid or duplicate record has been found, as the address book cannot be used.
+     */
+    public void convert(List<JsonAdaptedPerson> records) {
+        int firstRecordNumber = recordCount + 1;
+        recordCount += records.size();
+        IntStream indices = IntStream.range(0, records.size());
+        if (records.size() >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        List<Conversion> conversions = indices.mapToObj(i -> Conversion.of(records.get(i))).toList();
+
+        for (int i = 0; i < conversions.size(); i++) {
+            Conversion conversion = conversions.get(i);
+            if (conversion.person() != null) {
+                add(conversion.person());
+                continue;
+            }
+            invalidCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(String.format(MESSAGE_INVALID_RECORD, firstRecordNumber + i, conversion.error()));
+            }
+        }
+    }
+
+    private void add(Person person) {
+        if (invalidCount > 0 || hasDuplicate) {
+            return;
+        }
+        if (addressBook.hasPerson(person)) {
+            hasDuplicate = true;
+            return;
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Checks that every record converted was valid, after which the address book holds them all in record order.
+     *
+     * @throws IllegalValueException if any record was invalid, listing the first few of them, or if two persons
+     *     share a student ID.
+     */
+    public void finish() throws IllegalValueException {
+        if (invalidCount > 0) {
+            StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_PERSONS, invalidCount));
+            errors.forEach(message::append);
+            if (invalidCount > errors.size()) {
+                message.append(String.format(MESSAGE_MORE_INVALID_RECORDS, invalidCount - errors.size()));
+            }
+            throw new IllegalValueException(message.toString());
+        }
+
+        if (hasDuplicate) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    /**
+     * The outcome of converting one record: either the person or the reason it is invalid.
+     */
+    private record Conversion(Person person, String error) {
+        static Conversion of(JsonAdaptedPerson record) {
+            try {
+                return new Conversion(record.toModelType(), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion(null, ive.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
+import seedu.address.model.history.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A class to access AddressBook data split across several json files on the hard disk.
+ *
+ * Persons are bucketed by a hash of their student ID into shard files kept in a directory next to the manifest at
+ * the storage's file path, so that saving a command's changes only rewrites the shards holding the changed persons.
+ * The manifest is rewritten only when persons are added or removed, or the current week changes.
+ *
+ * Shards are written before the manifest, and shards that gain persons before shards that only lose or update them,
+ * so a person moved to another shard by a change of student ID is always in at least one of them. If saving stops
+ * part way, persons found in the shards but missing from the manifest are put at the end, and student IDs in the
+ * manifest that are in no shard are ignored.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+    private boolean isLayoutCurrent;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a storage with its manifest at {@code filePath} that splits persons across {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the shards of the address book with its manifest at {@code manifestPath}.
+     */
+    public static Path getShardDirectory(Path manifestPath) {
+        return manifestPath.resolveSibling(manifestPath.getFileName() + ".shards");
+    }
+
+    /**
+     * Returns the path of shard {@code shard} of the address book with its manifest at {@code manifestPath}.
+     */
+    public static Path getShardFilePath(Path manifestPath, int shard) {
+        return getShardDirectory(manifestPath).resolve(String.format("shard-%03d.json", shard));
+    }
+
+    /**
+     * Returns the shard that the person with {@code studentId} belongs to, out of {@code shardCount} shards.
+     */
+    static int shardOf(StudentId studentId, int shardCount) {
+        return Math.floorMod(studentId.value.hashCode(), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * An address book that is not sharded is read as well, and is split into shards the next time it is saved.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonAddressBookManifest> manifest = readManifest(filePath);
+        if (manifest.isEmpty()) {
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        if (filePath.equals(this.filePath)) {
+            isLayoutCurrent = manifest.get().getShardCount() == shardCount;
+        }
+        return Optional.of(readShards(filePath, manifest.get()));
+    }
+
+    /**
+     * Returns the address book with its manifest at {@code filePath}, or {@code Optional.empty()} if there is no
+     * manifest there.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    static Optional<ReadOnlyAddressBook> readShardedAddressBook(Path filePath) throws DataLoadingException {
+        Optional<JsonAddressBookManifest> manifest = readManifest(filePath);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(readShards(filePath, manifest.get()));
+    }
+
+    /**
+     * Returns the manifest at {@code filePath}, or {@code Optional.empty()} if there is no shard directory beside it
+     * or the file is not a manifest.
+     */
+    private static Optional<JsonAddressBookManifest> readManifest(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            if (!Files.isDirectory(getShardDirectory(filePath)) || !Files.exists(filePath)
+                    || BinarySnapshotFormat.isBinaryAddressBook(filePath)) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class)
+                .filter(JsonAddressBookManifest::isManifest);
+    }
+
+    private static AddressBook readShards(Path filePath, JsonAddressBookManifest manifest)
+            throws DataLoadingException {
+        try {
+            return readShardFiles(filePath, manifest);
+        } catch (IOException e) {
+            logger.warning("Error reading from shards of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static AddressBook readShardFiles(Path filePath, JsonAddressBookManifest manifest)
+            throws IOException, IllegalValueException {
+        Map<StudentId, Person> personsById = new LinkedHashMap<>();
+        for (int shard = 0; shard < manifest.getShardCount(); shard++) {
+            Path shardFile = getShardFilePath(filePath, shard);
+            if (!Files.exists(shardFile)) {
+                continue;
+            }
+            try (JsonParser parser = JsonUtil.createParser(shardFile)) {
+                for (Person person : JsonSerializableAddressBook.readAddressBook(parser).getPersonList()) {
+                    if (personsById.put(person.getStudentId(), person) != null) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                }
+            }
+        }
+
+        List<Person> persons = new ArrayList<>(personsById.size());
+        for (String studentId : manifest.getStudentIds()) {
+            if (!StudentId.isValidStudentId(studentId)) {
+                throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+            }
+            Person person = personsById.remove(new StudentId(studentId));
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        if (!personsById.isEmpty()) {
+            logger.warning(personsById.size() + " persons in shards of " + filePath + " are missing from its manifest");
+            persons.addAll(personsById.values());
+        }
+
+        int weekNumber = manifest.getCurrentWeek();
+        if (weekNumber < Week.MIN_WEEK || weekNumber > Week.MAX_WEEK) {
+            throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCurrentWeek(new Week(weekNumber));
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        List<Integer> allShards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            allShards.add(shard);
+        }
+        writeShards(addressBook, filePath, allShards);
+        JsonUtil.saveJsonFile(new JsonAddressBookManifest(addressBook, shardCount), filePath);
+        if (filePath.equals(this.filePath)) {
+            isLayoutCurrent = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the shards holding persons affected by {@code changes} are rewritten.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ModelChange> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+        if (!isLayoutCurrent) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        TreeSet<Integer> gainingShards = new TreeSet<>();
+        TreeSet<Integer> changedShards = new TreeSet<>();
+        boolean isManifestChanged = false;
+        for (ModelChange change : changes) {
+            if (change instanceof ModelChange.PersonAdded added) {
+                gainingShards.add(shardOf(added.person().getStudentId(), shardCount));
+                isManifestChanged = true;
+            } else if (change instanceof ModelChange.PersonRemoved removed) {
+                changedShards.add(shardOf(removed.person().getStudentId(), shardCount));
+                isManifestChanged = true;
+            } else if (change instanceof ModelChange.PersonReplaced replaced) {
+                StudentId before = replaced.before().getStudentId();
+                StudentId after = replaced.after().getStudentId();
+                changedShards.add(shardOf(before, shardCount));
+                if (!before.equals(after)) {
+                    gainingShards.add(shardOf(after, shardCount));
+                    isManifestChanged = true;
+                }
+            } else if (change instanceof ModelChange.WeekChanged) {
+                isManifestChanged = true;
+            } else if (change instanceof ModelChange.AddressBookReplaced) {
+                saveAddressBook(addressBook);
+                return;
+            }
+        }
+
+        // A shard that gains a person must hold it before the shard it came from drops it
+        changedShards.removeAll(gainingShards);
+        List<Integer> shardsInWriteOrder = new ArrayList<>(gainingShards);
+        shardsInWriteOrder.addAll(changedShards);
+        logger.fine("Rewriting " + shardsInWriteOrder.size() + " of " + shardCount + " shards of " + filePath);
+        writeShards(addressBook, filePath, shardsInWriteOrder);
+        if (isManifestChanged) {
+            JsonUtil.saveJsonFile(new JsonAddressBookManifest(addressBook, shardCount), filePath);
+        }
+    }
+
+    /**
+     * Rewrites {@code shards} of the address book with its manifest at {@code filePath}, in the order given.
+     */
+    private void writeShards(ReadOnlyAddressBook addressBook, Path filePath, List<Integer> shards)
+            throws IOException {
+        if (shards.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<JsonAdaptedPerson>> shardPersons = new LinkedHashMap<>();
+        shards.forEach(shard -> shardPersons.put(shard, new ArrayList<>()));
+        for (Person person : addressBook.getPersonList()) {
+            List<JsonAdaptedPerson> persons = shardPersons.get(shardOf(person.getStudentId(), shardCount));
+            if (persons != null) {
+                persons.add(new JsonAdaptedPerson(person));
+            }
+        }
+
+        int weekNumber = addressBook.getCurrentWeek().getWeekNumber();
+        for (Map.Entry<Integer, List<JsonAdaptedPerson>> entry : shardPersons.entrySet()) {
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(entry.getValue(), weekNumber),
+                    getShardFilePath(filePath, entry.getKey()));
+        }
+    }
+}
@@ -2,13 +2,18 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.history.ModelChange;
 
 /**
  * API of the Storage component
@@ -36,4 +41,43 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Timeslots
     @Override
     void saveTimeslots(ReadOnlyTimeslots timeslots) throws IOException;
 
+    /**
+     * Saves the result of a command that made {@code changes}, leaving the data as {@code addressBook} and
+     * {@code timeslots} at the given versions. Only the changes are written when journaling; otherwise only the data
+     * files whose version advanced since the last save are rewritten.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, long addressBookVersion,
+            ReadOnlyTimeslots timeslots, long timeslotsVersion) throws IOException;
+
+    /**
+     * Sets the listener told of each save that fails after {@link #saveChanges} has returned, i.e. in the
+     * background. It is called on the thread that made the save. Such a save is retried with the next save or by
+     * {@link #flush()}.
+     */
+    void setSaveFailureListener(Consumer<IOException> listener);
+
+    /**
+     * Waits for any saves still in progress to finish and retries any that failed.
+     *
+     * @throws IOException if the data could not be saved.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Applies any command journal left by an earlier run to the data loaded from the data files.
+     *
+     * @throws DataLoadingException if the journal could not be read or applied.
+     */
+    void replayJournal(AddressBook addressBook, Timeslots timeslots) throws DataLoadingException;
+
+    /**
+     * Writes {@code addressBook} and {@code timeslots} to the data files and deletes the command journal, if any.
+     * Does nothing if there is no journal to fold into the data files.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compactJournal(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException;
+
 }
@@ -1,19 +1,34 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.history.ModelChange;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Once {@link #startWriteBehind()} is called, command results are saved on a background thread. Saves requested while
+ * an earlier one is still waiting are coalesced into one that writes only the latest data. A failed save is reported
+ * to the save failure listener as soon as it fails, and is retried with the next save or by {@link #flush()}.
  */
 public class StorageManager implements Storage {
 
@@ -21,6 +36,16 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private TimeslotsStorage timeslotStorage;
+    private CommandJournalStorage commandJournalStorage;
+    private boolean isJournaling;
+    private boolean hasRecoveredJournal;
+    private long savedAddressBookVersion;
+    private long savedTimeslotsVersion;
+
+    private ExecutorService saveExecutor;
+    private PendingSave pendingSave;
+    private boolean isSaveScheduled;
+    private Consumer<IOException> saveFailureListener = failure -> {};
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -32,6 +57,19 @@ public class StorageManager implements Storage {
         this.timeslotStorage = timeslotStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that also uses {@code commandJournalStorage}.
+     * Commands are saved to the journal if {@code isJournaling}; otherwise the journal is only used to recover the
+     * changes left in it by an earlier run.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          TimeslotsStorage timeslotStorage, CommandJournalStorage commandJournalStorage,
+                          boolean isJournaling) {
+        this(addressBookStorage, userPrefsStorage, timeslotStorage);
+        this.commandJournalStorage = commandJournalStorage;
+        this.isJournaling = isJournaling;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -108,4 +146,180 @@ public class StorageManager implements Storage {
         timeslotStorage.saveTimeslots(timeslots, filePath);
     }
 
+    // ================ Command journal methods ==============================
+
+    @Override
+    public void replayJournal(AddressBook addressBook, Timeslots timeslots) throws DataLoadingException {
+        if (commandJournalStorage != null) {
+            hasRecoveredJournal = commandJournalStorage.replayJournal(addressBook, timeslots);
+        }
+    }
+
+    @Override
+    public void compactJournal(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException {
+        // Without a journal to fold in, flush() has already left the data files current
+        if (commandJournalStorage == null || !(isJournaling || hasRecoveredJournal)) {
+            return;
+        }
+        // Checkpoint first, so that a crash while the data files are rewritten still leaves a journal that is
+        // correct on top of either version of them.
+        commandJournalStorage.writeCheckpoint(addressBook, timeslots);
+        saveAddressBook(addressBook);
+        saveTimeslots(timeslots);
+        commandJournalStorage.deleteJournal();
+        hasRecoveredJournal = false;
+    }
+
+    // ================ Write-behind methods ==============================
+
+    /**
+     * Makes {@link #saveChanges} return immediately and save on a background thread until {@link #flush()}.
+     * The data passed to {@code saveChanges} must then be immutable snapshots.
+     */
+    public synchronized void startWriteBehind() {
+        if (saveExecutor != null) {
+            return;
+        }
+        saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * Versions start at 0 for the data as loaded, so nothing is written until the data first changes.
+     */
+    @Override
+    public void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, long addressBookVersion,
+            ReadOnlyTimeslots timeslots, long timeslotsVersion) throws IOException {
+        PendingSave save = new PendingSave(changes, addressBook, addressBookVersion, timeslots, timeslotsVersion);
+        synchronized (this) {
+            if (saveExecutor == null) {
+                writeChanges(save);
+                return;
+            }
+            pendingSave = pendingSave == null ? save : pendingSave.followedBy(save);
+            if (!isSaveScheduled) {
+                isSaveScheduled = true;
+                saveExecutor.execute(this::writePendingSave);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureListener(Consumer<IOException> listener) {
+        requireNonNull(listener);
+        saveFailureListener = listener;
+    }
+
+    /**
+     * Writes the pending save on the background thread, keeping it pending and telling the save failure listener if
+     * it fails.
+     */
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+            isSaveScheduled = false;
+        }
+        if (save == null) {
+            return;
+        }
+        try {
+            writeChanges(save);
+        } catch (IOException e) {
+            logger.severe("Failed to save data in the background: " + e);
+            Consumer<IOException> listener;
+            synchronized (this) {
+                pendingSave = pendingSave == null ? save : save.followedBy(pendingSave);
+                listener = saveFailureListener;
+            }
+            listener.accept(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = saveExecutor;
+            saveExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+        if (save != null) {
+            writeChanges(save);
+        }
+    }
+
+    private void writeChanges(PendingSave save) throws IOException {
+        writeChanges(save.changes(), save.addressBook(), save.addressBookVersion(), save.timeslots(),
+                save.timeslotsVersion());
+    }
+
+    private void writeChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, long addressBookVersion,
+            ReadOnlyTimeslots timeslots, long timeslotsVersion) throws IOException {
+        boolean isAddressBookChanged = addressBookVersion != savedAddressBookVersion;
+        boolean isTimeslotsChanged = timeslotsVersion != savedTimeslotsVersion;
+        if (!isAddressBookChanged && !isTimeslotsChanged) {
+            return;
+        }
+
+        if (isJournaling) {
+            logger.fine("Attempting to append " + changes.size() + " changes to journal: "
+                    + commandJournalStorage.getJournalFilePath());
+            commandJournalStorage.appendChanges(changes, addressBook, timeslots);
+        } else {
+            // A recovered journal may hold changes to either file, so both must be saved before it is dropped.
+            if (hasRecoveredJournal) {
+                saveAddressBook(addressBook);
+            } else if (isAddressBookChanged) {
+                logger.fine("Attempting to save " + changes.size() + " changes to data file: "
+                        + addressBookStorage.getAddressBookFilePath());
+                addressBookStorage.saveAddressBookChanges(addressBook, changes);
+            }
+            if (isTimeslotsChanged || hasRecoveredJournal) {
+                saveTimeslots(timeslots);
+            }
+            if (hasRecoveredJournal) {
+                commandJournalStorage.deleteJournal();
+                hasRecoveredJournal = false;
+            }
+        }
+        savedAddressBookVersion = addressBookVersion;
+        savedTimeslotsVersion = timeslotsVersion;
+    }
+
+    /**
+     * The changes and resulting data of one or more commands, waiting to be saved.
+     */
+    private record PendingSave(List<ModelChange> changes, ReadOnlyAddressBook addressBook, long addressBookVersion,
+            ReadOnlyTimeslots timeslots, long timeslotsVersion) {
+
+        /**
+         * Returns a save of this save's changes followed by {@code later}'s, leaving the data as in {@code later}.
+         */
+        PendingSave followedBy(PendingSave later) {
+            List<ModelChange> combined = new ArrayList<>(changes);
+            combined.addAll(later.changes);
+            return new PendingSave(combined, later.addressBook, later.addressBookVersion, later.timeslots,
+                    later.timeslotsVersion);
+        }
+    }
+
 }
@@ -0,0 +1,43 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list that is changed on another thread, kept up to date on the thread of the given executor.
+ * Changes made in quick succession are published together, as a single update of the copy.
+ */
+public class ListMirror<T> {
+
+    private final ObservableList<T> mirror;
+    private final AtomicReference<List<T>> pendingContents = new AtomicReference<>();
+
+    /**
+     * Creates a copy of {@code source}, which must not be changed until this returns, that is updated through
+     * {@code executor} whenever {@code source} changes.
+     */
+    public ListMirror(ObservableList<T> source, Executor executor) {
+        requireNonNull(source);
+        requireNonNull(executor);
+        mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            if (pendingContents.getAndSet(List.copyOf(change.getList())) == null) {
+                executor.execute(() -> mirror.setAll(pendingContents.getAndSet(null)));
+            }
+        });
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, which only changes on the executor's thread.
+     */
+    public ObservableList<T> getList() {
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,14 +15,19 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandWorker;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.Timeslot;
 
 /**
  * The Main Window. Provides the basic application layout containing
  * a menu bar and space where other JavaFX elements can be placed.
+ * Commands run on a {@code CommandWorker}, so the model is only changed and read off the JavaFX application thread,
+ * and what is shown here is updated from copies published back to it.
  */
 public class MainWindow extends UiPart<Stage> {
 
@@ -29,6 +37,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandWorker commandWorker;
+    private Week currentWeek;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -60,6 +70,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        commandWorker = new CommandWorker(Platform::runLater);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -112,13 +123,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        currentWeek = logic.getCurrentWeek();
+        ListMirror<Person> shownPersons = new ListMirror<>(logic.getFilteredPersonList(), Platform::runLater);
+        personListPanel = new PersonListPanel(shownPersons.getList(), () -> currentWeek);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getCurrentWeek());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), currentWeek);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -153,6 +167,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Waits for the commands already entered to finish running.
+     */
+    void stop() {
+        commandWorker.shutdown();
+    }
+
     /**
      * Closes the application.
      */
@@ -160,7 +181,10 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandWorker.submit(() -> {
+            logic.setGuiSettings(guiSettings);
+            return null;
+        });
         helpWindow.hide();
         // close timeslots window if it is open
         TimeslotsWindow.hide();
@@ -172,37 +196,72 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background and returns its result, completed on the JavaFX thread
+     * after the result has been shown.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandWorker.submit(() -> runCommand(commandText))
+                .whenComplete((executedCommand, error) -> {
+                    if (error == null) {
+                        showResult(executedCommand);
+                    } else {
+                        showFailure(commandText, error);
+                    }
+                })
+                .thenApply(ExecutedCommand::commandResult);
+    }
 
-            statusBarFooter.setCurrentWeek(logic.getCurrentWeek());
+    /**
+     * Executes the command on the command worker, copying the parts of the model its result shows.
+     */
+    private ExecutedCommand runCommand(String commandText) throws Exception {
+        CommandResult commandResult = logic.execute(commandText);
+        List<Timeslot> timeslots = hasTimeslotRanges(commandResult)
+                ? List.copyOf(logic.getTimeslots().getTimeslotList())
+                : List.of();
+        return new ExecutedCommand(commandResult, logic.getCurrentWeek(), timeslots);
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private void showResult(ExecutedCommand executedCommand) {
+        CommandResult commandResult = executedCommand.commandResult();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        currentWeek = executedCommand.currentWeek();
+        statusBarFooter.setCurrentWeek(currentWeek);
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            String period;
-            if (e instanceof CommandException) {
-                period = "executing";
-            } else {
-                period = "parsing";
-            }
-            logger.info("An error occurred while " + period + " command :" + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (hasTimeslotRanges(commandResult)) {
+            TimeslotsWindow.showMerged(commandResult.getTimeslotRanges(), executedCommand.timeslots());
         }
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    private void showFailure(String commandText, Throwable error) {
+        String period;
+        if (error instanceof ParseException) {
+            period = "parsing";
+        } else {
+            period = "executing";
+        }
+        logger.info("An error occurred while " + period + " command :" + commandText);
+        resultDisplay.setFeedbackToUser(error.getMessage());
+    }
+
+    private static boolean hasTimeslotRanges(CommandResult commandResult) {
+        return commandResult.getTimeslotRanges() != null && !commandResult.getTimeslotRanges().isEmpty();
     }
+
+    /**
+     * The result of a command, with the parts of the model it shows as they were just after the command.
+     */
+    private record ExecutedCommand(CommandResult commandResult, Week currentWeek, List<Timeslot> timeslots) {}
 }
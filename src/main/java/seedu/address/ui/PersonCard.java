@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 
 import javafx.fxml.FXML;
@@ -9,8 +8,8 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.Week;
 import seedu.address.model.person.GradeMap;
-import seedu.address.model.person.Gradeable;
 import seedu.address.model.person.LabAttendance;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Status;
@@ -57,8 +56,9 @@ public class PersonCard extends UiPart<Region> {
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Lab and exercise statuses are shown as of {@code currentWeek}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, Week currentWeek) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -66,7 +66,7 @@ public class PersonCard extends UiPart<Region> {
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         email.setText(person.getEmail().value);
-        List<Status> exerciseStatuses = person.getExerciseTracker().getStatuses();
+        List<Status> exerciseStatuses = person.getExerciseTracker().getStatuses(currentWeek);
         for (int i = 0; i < exerciseStatuses.size(); i++) {
             Label exerciseLabel = new Label("EX" + i);
             String statusClass = switch (exerciseStatuses.get(i)) {
@@ -82,7 +82,7 @@ public class PersonCard extends UiPart<Region> {
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
         githubUsername.setText(person.getGithubUsername().value);
-        LabAttendance[] labs = person.getLabAttendanceList().getLabs();
+        LabAttendance[] labs = person.getLabAttendanceList().getLabs(currentWeek);
 
         for (LabAttendance lab : labs) {
             Label labLabel = new Label("L" + lab.getLabNumber());
@@ -95,12 +95,11 @@ public class PersonCard extends UiPart<Region> {
             labAttendance.getChildren().add(labLabel);
         }
 
-        HashMap<String, Gradeable> gradeableMap = person.getGradeMap().getGradeableHashMap();
-        for (String examName : GradeMap.VALID_EXAM_NAMES) {
-            Gradeable exam = gradeableMap.get(examName);
-            Label gradeLabel = new Label(examName.toUpperCase());
+        GradeMap gradeMap = person.getGradeMap();
+        for (int i = 0; i < GradeMap.VALID_EXAM_NAMES.length; i++) {
+            Label gradeLabel = new Label(GradeMap.VALID_EXAM_NAMES[i].toUpperCase());
 
-            double score = exam.getScore();
+            double score = gradeMap.getScore(i);
             if (score == -1.0) {
                 gradeLabel.getStyleClass().addAll("status-label", "exam-not-graded");
             } else if (score >= 50.0) {
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Waits for the commands already entered to finish running. */
+    void stop();
+
 }
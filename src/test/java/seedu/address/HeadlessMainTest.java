@@ -0,0 +1,113 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTimeslotsStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTimeslotsStorage(temporaryFolder.resolve("timeslots.json")));
+        Model model = new ModelManager();
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void runCommands_validCommands_success() throws Exception {
+        String commands = "# comment\n\n" + ListCommand.COMMAND_WORD + "\n";
+        assertEquals(HeadlessMain.EXIT_SUCCESS, runCommands(commands));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void runCommands_invalidCommand_failureReportedAndRestRun() throws Exception {
+        String commands = "unknown\n" + ListCommand.COMMAND_WORD + "\n";
+        assertEquals(HeadlessMain.EXIT_FAILURE, runCommands(commands));
+        assertEquals(String.format(HeadlessMain.MESSAGE_LINE_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), err.toString());
+        assertTrue(out.toString().contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void runCommands_exitCommand_stopsReading() throws Exception {
+        String commands = ExitCommand.COMMAND_WORD + "\nunknown\n";
+        assertEquals(HeadlessMain.EXIT_SUCCESS, runCommands(commands));
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_tooManyCommandFiles_usageReported() {
+        assertEquals(HeadlessMain.EXIT_USAGE, HeadlessMain.run(new String[] {"a.txt", "b.txt"},
+                new PrintStream(out), new PrintStream(err)));
+        assertEquals(HeadlessMain.MESSAGE_USAGE + System.lineSeparator(), err.toString());
+    }
+
+    @Test
+    public void run_invalidScript_failureReported() throws Exception {
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptFile, "unknown\n");
+        String[] args = {"--config=" + createConfigFile(), "--script=" + scriptFile};
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, HeadlessMain.run(args, new PrintStream(out), new PrintStream(err)));
+        assertTrue(err.toString().contains(MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    /**
+     * Returns a config file whose preferences keep all data files in the temporary folder.
+     */
+    private Path createConfigFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        userPrefs.setTimeslotsFilePath(temporaryFolder.resolve("timeslots.json"));
+        Path userPrefsFile = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFile).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFile);
+        Path configFile = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFile);
+        return configFile;
+    }
+
+    private int runCommands(String commands) throws Exception {
+        return HeadlessMain.runCommands(logic, new BufferedReader(new StringReader(commands)),
+                new PrintStream(out, true), new PrintStream(err, true));
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,48 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.json");
+        FileUtil.writeAtomically(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsOldContent() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeAtomically_compressed_readBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("data.json.gz");
+        String content = "{ \"persons\" : [ ] }\n".repeat(100);
+        FileUtil.writeAtomically(file, FileUtil.MAX_COMPRESSION_LEVEL,
+                out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals((byte) 0x1f, bytes[0]);
+        assertEquals((byte) 0x8b, bytes[1]);
+        assertTrue(bytes.length < content.length());
+        assertEquals(content, FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_invalidCompressionLevel_throwsIllegalArgumentException() {
+        Path file = testFolder.resolve("data.json");
+        assertThrows(IllegalArgumentException.class, () -> FileUtil.writeAtomically(file,
+                FileUtil.MAX_COMPRESSION_LEVEL + 1, out -> out.write(0)));
+    }
+
 }
@@ -0,0 +1,68 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class CommandWorkerTest {
+
+    private final List<String> publishingThreads = new ArrayList<>();
+    private final CommandWorker commandWorker = new CommandWorker(runnable -> {
+        synchronized (publishingThreads) {
+            publishingThreads.add(Thread.currentThread().getName());
+        }
+        runnable.run();
+    });
+
+    @AfterEach
+    public void tearDown() {
+        commandWorker.shutdown();
+    }
+
+    @Test
+    public void submit_tasks_runInOrderOnWorkerThread() throws Exception {
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int taskNumber = i;
+            futures.add(commandWorker.submit(() -> {
+                order.add(taskNumber);
+                return Thread.currentThread().getName();
+            }));
+        }
+        commandWorker.shutdown();
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("command-worker", future.get());
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+        }
+        assertEquals(20, publishingThreads.size());
+    }
+
+    @Test
+    public void submit_failingTask_completesExceptionally() {
+        CommandException failure = new CommandException("failed");
+        CompletableFuture<Object> future = commandWorker.submit(() -> {
+            throw failure;
+        });
+        assertThrows(ExecutionException.class, future::get);
+        assertSame(failure, future.handle((result, error) -> error).join());
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandWorker.submit(null));
+    }
+}
@@ -33,7 +33,7 @@ public class MarkAttendanceTest {
     public void execute_markLab_success() {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         LabAttendanceList labAttendanceList = new LabList();
-        labAttendanceList.markLabAsAttended(0);
+        labAttendanceList = labAttendanceList.markLabAsAttended(0);
         Person editedPerson = new PersonBuilder(firstPerson)
                 .withLabAttendanceList(labAttendanceList.toString()).build();
 
@@ -67,7 +67,7 @@ public class MarkAttendanceTest {
     public void execute_labAlreadyMarked_compilesMessageSuccessfully() throws CommandException {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         LabAttendanceList labAttendanceList = new LabList();
-        labAttendanceList.markLabAsAttended(0);
+        labAttendanceList = labAttendanceList.markLabAsAttended(0);
         Person editedPerson = new PersonBuilder(firstPerson)
                 .withLabAttendanceList(labAttendanceList.toString()).build();
         model.setPerson(firstPerson, editedPerson);
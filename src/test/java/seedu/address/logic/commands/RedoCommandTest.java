@@ -0,0 +1,297 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Week;
+import seedu.address.model.history.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.StudentId;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_redoAvailable_success() throws Exception {
+        ModelStubWithRedoAvailable modelStub = new ModelStubWithRedoAvailable();
+
+        CommandResult commandResult = new RedoCommand().execute(modelStub);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
+        assertTrue(modelStub.redoAddressBookCalled);
+    }
+
+    @Test
+    public void execute_noCommandToRedo_throwsCommandException() {
+        ModelStubNoRedoAvailable modelStub = new ModelStubNoRedoAvailable();
+        RedoCommand redoCommand = new RedoCommand();
+
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_FAILURE, () -> redoCommand.execute(modelStub));
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand1 = new RedoCommand();
+        RedoCommand redoCommand2 = new RedoCommand();
+
+        // same object -> returns true
+        assertTrue(redoCommand1.equals(redoCommand1));
+
+        // different objects but same type -> returns true (all RedoCommands are equal)
+        assertTrue(redoCommand1.equals(redoCommand2));
+
+        // different types -> returns false
+        assertFalse(redoCommand1.equals(1));
+
+        // null -> returns false
+        assertFalse(redoCommand1.equals(null));
+
+        // different command type -> returns false
+        assertFalse(redoCommand1.equals(new UndoCommand()));
+    }
+
+    /**
+     * A default model stub that have all of the methods failing.
+     */
+    private class ModelStub implements Model {
+        @Override
+        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBookFilePath(Path addressBookFilePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePerson(Person target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ModelChange> takeUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyTimeslots getTimeslotsSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTimeslotsVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StudentId> searchPersons(Map<SearchField, List<String>> keywordsByField) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFilteredPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyTimeslots getTimeslots() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTimeslots(seedu.address.model.ReadOnlyTimeslots newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTimeslot(seedu.address.model.timeslot.Timeslot timeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTimeslot(seedu.address.model.timeslot.Timeslot timeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeTimeslot(seedu.address.model.timeslot.Timeslot timeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearTimeslots() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCurrentWeek(Week currentWeek) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Week getCurrentWeek() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+
+    /**
+     * A Model stub where redo is available.
+     */
+    private class ModelStubWithRedoAvailable extends ModelStub {
+        private boolean redoAddressBookCalled = false;
+
+        @Override
+        public boolean canRedoAddressBook() {
+            return true;
+        }
+
+        @Override
+        public void redoAddressBook() {
+            redoAddressBookCalled = true;
+        }
+    }
+
+    /**
+     * A Model stub where no redo is available.
+     */
+    private class ModelStubNoRedoAvailable extends ModelStub {
+        @Override
+        public boolean canRedoAddressBook() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunScriptCommandTest {
+
+    private static final Path SCRIPT_FILE = Paths.get("setup.txt");
+
+    @Test
+    public void execute_allCommandsSucceed_oneUndoStep() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_FILE,
+                List.of(new ScriptLine(1, new AddCommand(AMY)), new ScriptLine(3, new AddCommand(BOB))));
+
+        assertCommandSuccess(command, model, String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, SCRIPT_FILE),
+                expectedModel);
+        assertEquals(2, model.takeUnsavedChanges().size());
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_commandFails_allChangesRolledBack() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_FILE,
+                List.of(new ScriptLine(1, new AddCommand(AMY)), new ScriptLine(2, new AddCommand(BOB)),
+                        new ScriptLine(4, new AddCommand(AMY))));
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_ROLLED_BACK, SCRIPT_FILE)
+                + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 4, AddCommand.MESSAGE_DUPLICATE_PERSON);
+
+        assertCommandFailure(command, model, expectedMessage);
+        assertTrue(model.takeUnsavedChanges().isEmpty());
+        assertEquals(0, model.getAddressBookVersion());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_FILE, List.of(new ScriptLine(1, new AddCommand(AMY))));
+
+        // same values -> returns true
+        assertTrue(command.equals(new RunScriptCommand(SCRIPT_FILE,
+                List.of(new ScriptLine(1, new AddCommand(AMY))))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different script file -> returns false
+        assertFalse(command.equals(new RunScriptCommand(Paths.get("other.txt"),
+                List.of(new ScriptLine(1, new AddCommand(AMY))))));
+
+        // different lines -> returns false
+        assertFalse(command.equals(new RunScriptCommand(SCRIPT_FILE,
+                List.of(new ScriptLine(1, new AddCommand(BOB))))));
+    }
+}
@@ -119,4 +119,23 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_registeredAlias_parsedByCommandParser() throws Exception {
+        CommandRegistry registry = AddressBookParser.createDefaultRegistry();
+        registry.register("purge", arguments -> new ClearCommand(), "wipe");
+        AddressBookParser customParser = new AddressBookParser(registry);
+        assertTrue(customParser.parseCommand("wipe") instanceof ClearCommand);
+        assertTrue(customParser.parseCommand("\tpurge 3") instanceof ClearCommand);
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), customParser.parseCommand(
+                DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased()));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("wipe"));
+    }
+
+    @Test
+    public void register_wordAlreadyRegistered_throwsIllegalArgumentException() {
+        CommandRegistry registry = AddressBookParser.createDefaultRegistry();
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register("purge", arguments -> new ClearCommand(), ListCommand.COMMAND_WORD));
+    }
 }
@@ -136,6 +136,33 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestTaken() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt long value -t short value -ttt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTt, "long value", "t");
+        assertArgumentPresent(argMultimap, dashT, "short value");
+    }
+
+    @Test
+    public void tokenize_longLineWithManyRepeats_allValuesInOrder() {
+        Prefix tSlash = new Prefix("t/");
+        int tagCount = 5000;
+        StringBuilder argsString = new StringBuilder("1 p/ 98765432");
+        String[] expectedTags = new String[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            expectedTags[i] = "tag" + i;
+            argsString.append(" t/").append(expectedTags[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, tSlash, hatQ);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, pSlash, "98765432");
+        assertArgumentPresent(argMultimap, tSlash, expectedTags);
+        assertArgumentAbsent(argMultimap, hatQ);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -277,8 +277,8 @@ public class ParserUtilTest {
     @Test
     public void parseLabAttendanceList_valid_success() throws ParseException {
         LabAttendanceList labAttendanceList = new LabList();
-        labAttendanceList.markLabAsAttended(0);
-        labAttendanceList.markLabAsAttended(6);
+        labAttendanceList = labAttendanceList.markLabAsAttended(0);
+        labAttendanceList = labAttendanceList.markLabAsAttended(6);
 
         LabAttendanceList labAttendanceListFromParser = ParserUtil.parseLabAttendanceList(VALID_LAB_LIST);
         assertEquals(labAttendanceList, labAttendanceListFromParser);
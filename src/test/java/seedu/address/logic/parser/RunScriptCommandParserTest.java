@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.address.logic.commands.SetWeekCommand;
+import seedu.address.model.Week;
+
+public class RunScriptCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_validScript_returnsRunScriptCommand() throws Exception {
+        Path scriptFile = testFolder.resolve("setup.txt");
+        Files.write(scriptFile, List.of("# start of semester", "set-week 3", "", "  delete 1  "));
+        RunScriptCommand expectedCommand = new RunScriptCommand(scriptFile, List.of(
+                new ScriptLine(2, new SetWeekCommand(new Week(3))),
+                new ScriptLine(4, new DeleteCommand(INDEX_FIRST_PERSON))));
+        assertParseSuccess(parser, " " + scriptFile, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLines_failureListsEveryLine() throws Exception {
+        Path scriptFile = testFolder.resolve("setup.txt");
+        Files.write(scriptFile, List.of("delete 1", "bogus", "undo"));
+        String expectedMessage = String.format(RunScriptCommandParser.MESSAGE_INVALID_LINES, scriptFile, 2)
+                + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND)
+                + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 3,
+                        String.format(RunScriptCommandParser.MESSAGE_NOT_ALLOWED, "undo"));
+        assertParseFailure(parser, " " + scriptFile, expectedMessage);
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        Path scriptFile = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + scriptFile,
+                String.format(RunScriptCommandParser.MESSAGE_CANNOT_READ, scriptFile));
+    }
+
+    @Test
+    public void parse_emptyArgs_failure() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+    }
+}
@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,9 +16,12 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +93,167 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void rollbackTransaction_afterChanges_changesReverted() {
+        modelManager.addPerson(ALICE);
+        modelManager.takeUnsavedChanges();
+        long version = modelManager.getAddressBookVersion();
+
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, modelManager::beginTransaction);
+        modelManager.saveAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.saveAddressBook();
+        modelManager.deletePerson(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        assertTrue(modelManager.takeUnsavedChanges().isEmpty());
+        assertEquals(version, modelManager.getAddressBookVersion());
+        assertThrows(IllegalStateException.class, modelManager::commitTransaction);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undoAddressBook_afterChanges_restoresSavedState() {
+        modelManager.addPerson(ALICE);
+        modelManager.saveAddressBook();
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.setCurrentWeek(new Week(5));
+        modelManager.undoAddressBook();
+
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(),
+                new AddressBook(modelManager.getAddressBook()));
+        assertTrue(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoRedo_multipleSteps_walksHistory() {
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.saveAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.saveAddressBook();
+        modelManager.setCurrentWeek(new Week(5));
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(),
+                new AddressBook(modelManager.getAddressBook()));
+        assertTrue(modelManager.canUndoAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(new Week(5), modelManager.getCurrentWeek());
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_newChangeAfterUndo_clearsRedo() {
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.undoAddressBook();
+
+        modelManager.saveAddressBook();
+        modelManager.addPerson(BENSON);
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_overBudget_dropsOldestSteps() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryBudget(0);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.saveAddressBook();
+        modelManager.addPerson(BENSON);
+
+        // the latest step is always kept
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void setAddressBook_sharedPersonsWithinBudget_keepsEarlierSteps() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryBudget(4096);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.saveAddressBook();
+        // only ALICE stops being shared with the live data, so replacing the roster is cheap to record
+        modelManager.setAddressBook(getTypicalAddressBook());
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
+    }
+
+    @Test
+    public void setAddressBook_clearLargeRosterOverBudget_dropsEarlierSteps() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryBudget(2048);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+
+        modelManager.saveAddressBook();
+        modelManager.addPerson(AMY);
+        modelManager.saveAddressBook();
+        // every person of the cleared roster is kept alive only by the history
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.saveAddressBook();
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitBatch_multipleReplacements_notifiesFilteredListOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        int[] notificationCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> notificationCount[0]++);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("97654321").build();
+        modelManager.beginBatch();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, editedBenson);
+        assertTrue(modelManager.getAddressBook().getPersonList().contains(editedAlice));
+        assertEquals(0, notificationCount[0]);
+
+        modelManager.commitBatch();
+        assertEquals(1, notificationCount[0]);
+        assertEquals(Arrays.asList(editedAlice, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void versions_advanceOnlyForChangedComponent() {
+        modelManager.hasPerson(ALICE);
+        assertEquals(0, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        assertEquals(1, modelManager.getAddressBookVersion());
+        assertEquals(0, modelManager.getTimeslotsVersion());
+
+        modelManager.saveAddressBook();
+        modelManager.clearTimeslots();
+        modelManager.undoAddressBook();
+        assertEquals(1, modelManager.getAddressBookVersion());
+        assertEquals(2, modelManager.getTimeslotsVersion());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,8 +1,12 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +29,70 @@ public class TimeslotsTest {
 
         assertThrows(IllegalArgumentException.class, () -> timeslots.addTimeslot(b));
     }
+
+    @Test
+    public void getOverlappingTimeslots_range_returnsIntersectingInStartOrder() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot late = slot("2025-10-01T14:00:00", "2025-10-01T15:00:00");
+        Timeslot early = slot("2025-10-01T09:00:00", "2025-10-01T10:00:00");
+        Timeslot middle = slot("2025-10-01T11:00:00", "2025-10-01T12:00:00");
+        timeslots.addTimeslot(late);
+        timeslots.addTimeslot(early);
+        timeslots.addTimeslot(middle);
+
+        assertEquals(List.of(early, middle), timeslots.getOverlappingTimeslots(
+                LocalDateTime.parse("2025-10-01T09:30:00"), LocalDateTime.parse("2025-10-01T11:30:00")));
+        // touching intervals do not overlap
+        assertEquals(List.of(), timeslots.getOverlappingTimeslots(
+                LocalDateTime.parse("2025-10-01T10:00:00"), LocalDateTime.parse("2025-10-01T11:00:00")));
+        assertEquals(List.of(late), timeslots.getOverlappingTimeslots(
+                LocalDateTime.parse("2025-10-01T14:30:00"), LocalDateTime.parse("2025-10-01T14:45:00")));
+        // insertion order of the list is unchanged
+        assertEquals(List.of(late, early, middle), timeslots.getTimeslotList());
+    }
+
+    @Test
+    public void removeTimeslot_present_allowsAddingOverlappingTimeslot() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot a = slot("2025-10-01T10:00:00", "2025-10-01T11:00:00");
+        timeslots.addTimeslot(a);
+        assertTrue(timeslots.hasTimeslot(a));
+
+        timeslots.removeTimeslot(a);
+        assertFalse(timeslots.hasTimeslot(a));
+        timeslots.addTimeslot(slot("2025-10-01T10:30:00", "2025-10-01T11:30:00"));
+    }
+
+    @Test
+    public void indexOf_afterInsertAndRemove_currentPositions() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot a = slot("2025-10-01T10:00:00", "2025-10-01T11:00:00");
+        Timeslot b = slot("2025-10-01T12:00:00", "2025-10-01T13:00:00");
+        Timeslot c = slot("2025-10-01T08:00:00", "2025-10-01T09:00:00");
+        timeslots.setTimeslots(List.of(a, b));
+        timeslots.addTimeslot(0, c);
+        assertEquals(List.of(0, 1, 2), List.of(timeslots.indexOf(c), timeslots.indexOf(a), timeslots.indexOf(b)));
+
+        timeslots.removeTimeslot(a);
+        assertEquals(List.of(c, b), timeslots.getTimeslotList());
+        assertEquals(-1, timeslots.indexOf(a));
+        assertEquals(1, timeslots.indexOf(b));
+        // same start but different end is not present
+        assertEquals(-1, timeslots.indexOf(slot("2025-10-01T12:00:00", "2025-10-01T12:30:00")));
+    }
+
+    @Test
+    public void setTimeslots_overlapping_throwsIllegalArgumentException() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot a = slot("2025-10-01T10:00:00", "2025-10-01T11:00:00");
+        Timeslot sameStart = slot("2025-10-01T10:00:00", "2025-10-01T10:30:00");
+        Timeslot b = slot("2025-10-01T10:30:00", "2025-10-01T11:30:00");
+        assertThrows(IllegalArgumentException.class, () -> timeslots.setTimeslots(List.of(a, b)));
+        assertThrows(IllegalArgumentException.class, () -> timeslots.setTimeslots(List.of(a, sameStart)));
+    }
+
+    private static Timeslot slot(String start, String end) {
+        return new Timeslot(LocalDateTime.parse(start, Timeslot.FORMATTER),
+                LocalDateTime.parse(end, Timeslot.FORMATTER));
+    }
 }
@@ -13,9 +13,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.Week;
 
 public class ExerciseTrackerTest {
 
+    private static final Week FIRST_WEEK = new Week(Week.MIN_WEEK);
     private ExerciseTracker tracker;
 
     @BeforeEach
@@ -45,7 +47,7 @@ public class ExerciseTrackerTest {
 
     @Test
     public void constructor_default_initializesAllToNotDone() {
-        var statuses = tracker.getStatuses();
+        var statuses = tracker.getStatuses(FIRST_WEEK);
         assertEquals(10, statuses.size());
         assertTrue(statuses.stream().allMatch(s -> s == Status.NOT_DONE));
     }
@@ -57,9 +59,24 @@ public class ExerciseTrackerTest {
         list.add(false);
         ExerciseTracker tracker2 = new ExerciseTracker(list);
 
-        assertEquals(10, tracker2.getStatuses().size());
-        assertEquals(Status.DONE, tracker2.getStatuses().get(0));
-        assertEquals(Status.NOT_DONE, tracker2.getStatuses().get(1));
+        assertEquals(10, tracker2.getStatuses(FIRST_WEEK).size());
+        assertEquals(Status.DONE, tracker2.getStatuses(FIRST_WEEK).get(0));
+        assertEquals(Status.NOT_DONE, tracker2.getStatuses(FIRST_WEEK).get(1));
+    }
+
+    @Test
+    public void getStatuses_laterWeek_marksPastExercisesOverdue() {
+        tracker = tracker.markExercise(Index.fromZeroBased(1), true);
+        var statuses = tracker.getStatuses(new Week(5));
+
+        assertEquals(Status.OVERDUE, statuses.get(0));
+        assertEquals(Status.DONE, statuses.get(1));
+        assertEquals(Status.OVERDUE, statuses.get(2));
+        assertEquals(Status.NOT_DONE, statuses.get(3));
+
+        // the tracker itself is unaffected by the week it was read with
+        assertEquals(Status.NOT_DONE, tracker.getStatuses(FIRST_WEEK).get(0));
+        assertTrue(tracker.toString().startsWith("ex 0: N ex 1: D"));
     }
 
     // -------------------------------------------------------------------------
@@ -76,8 +93,17 @@ public class ExerciseTrackerTest {
     @Test
     public void markExercise_validIndex_updatesStatus() {
         Index index = Index.fromZeroBased(3);
-        tracker.markExercise(index, true);
-        assertEquals(Status.DONE, tracker.getStatuses().get(3));
+        tracker = tracker.markExercise(index, true);
+        assertEquals(Status.DONE, tracker.getStatuses(FIRST_WEEK).get(3));
+    }
+
+    @Test
+    public void markExercise_alreadyMarked_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, "Exercise 0 has already been marked as not done", () ->
+                tracker.markExercise(Index.fromZeroBased(0), false));
+        tracker = tracker.markExercise(Index.fromZeroBased(0), true);
+        assertThrows(IllegalStateException.class, "Exercise 0 has already been marked as done", () ->
+                tracker.markExercise(Index.fromZeroBased(0), true));
     }
 
     // -------------------------------------------------------------------------
@@ -98,8 +124,7 @@ public class ExerciseTrackerTest {
 
     @Test
     public void equals_differentStatuses_returnsFalse() {
-        ExerciseTracker other = tracker.copy();
-        other.markExercise(Index.fromZeroBased(1), true);
+        ExerciseTracker other = tracker.markExercise(Index.fromZeroBased(1), true);
         assertFalse(tracker.equals(other));
     }
 
@@ -126,26 +151,23 @@ public class ExerciseTrackerTest {
         assertEquals(0.0, exerciseTracker.calculateProgress());
 
         // Mark first exercise done
-        exerciseTracker.markExercise(INDEX_FIRST_LAB, true);
+        exerciseTracker = exerciseTracker.markExercise(INDEX_FIRST_LAB, true);
         assertEquals(1.0 / ExerciseTracker.NUMBER_OF_EXERCISES * 100, exerciseTracker.calculateProgress());
 
         // Mark second exercise done
-        exerciseTracker.markExercise(INDEX_SECOND_LAB, true);
+        exerciseTracker = exerciseTracker.markExercise(INDEX_SECOND_LAB, true);
         assertEquals(2.0 / ExerciseTracker.NUMBER_OF_EXERCISES * 100, exerciseTracker.calculateProgress());
     }
 
     // -------------------------------------------------------------------------
-    // copy Tests
+    // immutability Tests
     // -------------------------------------------------------------------------
 
     @Test
-    public void copy_createsIndependentClone() {
-        ExerciseTracker copy = tracker.copy();
-        assertTrue(tracker.equals(copy));
-
-        // Modify copy, original should remain unchanged
-        copy.markExercise(Index.fromZeroBased(0), true);
-        assertFalse(tracker.equals(copy));
+    public void markExercise_validIndex_originalUnchanged() {
+        ExerciseTracker marked = tracker.markExercise(Index.fromZeroBased(0), true);
+        assertEquals(Status.NOT_DONE, tracker.getStatuses(FIRST_WEEK).get(0));
+        assertEquals(Status.DONE, marked.getStatuses(FIRST_WEEK).get(0));
     }
 
     // -------------------------------------------------------------------------
@@ -157,7 +179,7 @@ public class ExerciseTrackerTest {
         ExerciseTracker t1 = new ExerciseTracker();
         ExerciseTracker t2 = new ExerciseTracker();
 
-        t2.markExercise(Index.fromZeroBased(0), true);
+        t2 = t2.markExercise(Index.fromZeroBased(0), true);
         assertTrue(t2.compareTo(t1) > 0);
         assertTrue(t1.compareTo(t2) < 0);
     }
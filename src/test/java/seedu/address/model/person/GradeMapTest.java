@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.InvalidExamNameException;
+import seedu.address.model.person.exceptions.InvalidScoreException;
 
 public class GradeMapTest {
 
@@ -41,6 +42,24 @@ public class GradeMapTest {
         assertEquals(30.0 / Examination.MAX_MIDTERM_SCORE * 100.0 , exam.getScore());
     }
 
+    @Test
+    public void gradeExam_scoreAboveMax_throwsInvalidScoreException() {
+        assertThrows(InvalidScoreException.class, () -> gradeMap.gradeExam("pe1", Examination.MAX_PE1_SCORE + 1));
+        assertEquals(new GradeMap(), gradeMap);
+    }
+
+    @Test
+    public void getScore_byIndex_returnsPercentageOrUngraded() throws InvalidExamNameException {
+        int pe1 = GradeMap.indexOfExam("pe1");
+        assertEquals(-1.0, gradeMap.getScore(pe1));
+        assertFalse(gradeMap.isGraded(pe1));
+
+        gradeMap.gradeExam("pe1", 20.0);
+        assertEquals(50.0, gradeMap.getScore(pe1));
+        assertTrue(gradeMap.isGraded(pe1));
+        assertEquals(-1, GradeMap.indexOfExam("quiz"));
+    }
+
     @Test
     public void gradeExam_invalidExamName_throwsException() {
         InvalidExamNameException exception = assertThrows(InvalidExamNameException.class, ()
@@ -63,6 +82,7 @@ public class GradeMapTest {
     public void equals_sameContent_returnsTrue() {
         GradeMap other = new GradeMap();
         assertEquals(gradeMap, other);
+        assertEquals(gradeMap.hashCode(), other.hashCode());
     }
 
     @Test
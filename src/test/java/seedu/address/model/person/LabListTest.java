@@ -10,12 +10,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Week;
+
 public class LabListTest {
     public static final String INVALID_LAB_LIST_STATUS =
             "L1: L L2: N L3: N L4: N L5: N L6: N L7: N L8: N L9: N L10: N ";
     public static final String INVALID_LAB_LIST_LENGTH = "L1: N L2: N L3: N ";
     public static final String INVALID_LAB_LIST_MISSING_COLON =
             "L1 Y L2 N L3 N L4: N L5: N L6: N L7: N L8: N L9: N L10: N ";
+    private static final Week FIRST_WEEK = new Week(Week.MIN_WEEK);
     private LabAttendance[] labs;
 
     @BeforeEach
@@ -37,7 +40,7 @@ public class LabListTest {
     public void constructorNoParam_default_success() {
         LabList labAttendanceList = new LabList();
         for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
-            assertFalse(labAttendanceList.getLabs()[i].isAttended());
+            assertFalse(labAttendanceList.getLabs(FIRST_WEEK)[i].isAttended());
         }
     }
 
@@ -45,7 +48,7 @@ public class LabListTest {
     public void constructorWithParam_default_success() {
         LabList labAttendanceList = new LabList(labs);
         for (int i = 0; i < labs.length; i++) {
-            assertFalse(labAttendanceList.getLabs()[i].isAttended());
+            assertFalse(labAttendanceList.getLabs(FIRST_WEEK)[i].isAttended());
         }
     }
 
@@ -53,13 +56,13 @@ public class LabListTest {
     public void markLab_validIndex_success() {
         LabList labAttendanceList = new LabList(labs);
 
-        assertFalse(labAttendanceList.getLabs()[0].isAttended());
-        labAttendanceList.markLabAsAttended(0);
-        assertTrue(labAttendanceList.getLabs()[0].isAttended());
+        assertFalse(labAttendanceList.getLabs(FIRST_WEEK)[0].isAttended());
+        labAttendanceList = labAttendanceList.markLabAsAttended(0);
+        assertTrue(labAttendanceList.getLabs(FIRST_WEEK)[0].isAttended());
 
-        assertFalse(labAttendanceList.getLabs()[5].isAttended());
-        labAttendanceList.markLabAsAttended(5);
-        assertTrue(labAttendanceList.getLabs()[5].isAttended());
+        assertFalse(labAttendanceList.getLabs(FIRST_WEEK)[5].isAttended());
+        labAttendanceList = labAttendanceList.markLabAsAttended(5);
+        assertTrue(labAttendanceList.getLabs(FIRST_WEEK)[5].isAttended());
     }
 
     @Test
@@ -87,7 +90,7 @@ public class LabListTest {
 
         assertEquals(labAttendanceList1, labAttendanceList2);
 
-        labAttendanceList1.markLabAsAttended(2);
+        labAttendanceList1 = labAttendanceList1.markLabAsAttended(2);
         assertNotEquals(labAttendanceList1, labAttendanceList2);
 
         assertNotEquals(labAttendanceList1, null);
@@ -98,17 +101,17 @@ public class LabListTest {
         LabList labAttendanceList = new LabList(labs);
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
-            sb.append("LN").append(" ");
+            sb.append("L").append(i + 1).append(": N ");
         }
         assertEquals(sb.toString(), labAttendanceList.toString());
 
-        labAttendanceList.markLabAsAttended(2);
+        labAttendanceList = labAttendanceList.markLabAsAttended(2);
         sb = new StringBuilder();
         for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
             if (i == 2) {
-                sb.append("LY").append(" ");
+                sb.append("L").append(i + 1).append(": Y ");
             } else {
-                sb.append("LN").append(" ");
+                sb.append("L").append(i + 1).append(": N ");
             }
 
         }
@@ -116,17 +119,42 @@ public class LabListTest {
     }
 
     @Test
-    public void copy_default_success() {
+    public void isLabAttended_afterMarking_reflectsMark() {
         LabList labList = new LabList();
-        LabList labListCopy = labList.copy();
-        assertNotSame(labList, labListCopy);
-        assertEquals(labList, labListCopy);
+        assertFalse(labList.isLabAttended(4));
+        labList = labList.markLabAsAttended(4);
+        assertTrue(labList.isLabAttended(4));
+        assertEquals(10.0, labList.calculateLabAttendance());
+        labList = labList.markLabAsAbsent(4);
+        assertFalse(labList.isLabAttended(4));
+        LabList unmarked = labList;
+        assertThrows(IndexOutOfBoundsException.class, () -> unmarked.isLabAttended(LabList.NUMBER_OF_LABS));
+    }
 
-        labList.markLabAsAttended(1);
-        labListCopy = labList.copy();
-        assertNotSame(labList, labListCopy);
-        assertEquals(labList, labListCopy);
+    @Test
+    public void getLabStatus_laterWeek_marksPastLabsAbsent() {
+        LabList labList = new LabList();
+        labList = labList.markLabAsAttended(1);
+        Week week = new Week(5);
+
+        assertEquals("A", labList.getLabStatus(0, week));
+        assertEquals("Y", labList.getLabStatus(1, week));
+        assertEquals("N", labList.getLabStatus(2, week));
+        assertEquals("A", labList.getLabs(week)[0].getStatus());
+        assertEquals("N", labList.getLabs(FIRST_WEEK)[0].getStatus());
+    }
 
+    @Test
+    public void markLab_validIndex_returnsNewListOriginalUnchanged() {
+        LabList labList = new LabList();
+        LabList attended = labList.markLabAsAttended(1);
+        assertNotSame(labList, attended);
+        assertFalse(labList.isLabAttended(1));
+        assertTrue(attended.isLabAttended(1));
+
+        LabList absent = attended.markLabAsAbsent(1);
+        assertTrue(attended.isLabAttended(1));
+        assertEquals(labList, absent);
     }
 
     @Test
@@ -146,9 +174,9 @@ public class LabListTest {
         LabList labList = new LabList();
         assertTrue(LabList.isValidLabList(labList.toString()));
 
-        labList.markLabAsAttended(1);
+        labList = labList.markLabAsAttended(1);
         assertTrue(LabList.isValidLabList(labList.toString()));
-        labList.markLabAsAttended(7);
+        labList = labList.markLabAsAttended(7);
         assertTrue(LabList.isValidLabList(labList.toString()));
     }
 
@@ -157,12 +185,12 @@ public class LabListTest {
         LabAttendanceList labAttendanceList = new LabList(labs);
         assertEquals(0.0 / LabList.NUMBER_OF_LABS * 100, labAttendanceList.calculateLabAttendance());
 
-        labAttendanceList.markLabAsAttended(0);
+        labAttendanceList = labAttendanceList.markLabAsAttended(0);
         assertEquals(1.0 / LabList.NUMBER_OF_LABS * 100, labAttendanceList.calculateLabAttendance());
 
-        labAttendanceList.markLabAsAttended(1);
-        labAttendanceList.markLabAsAttended(2);
-        labAttendanceList.markLabAsAttended(3);
+        labAttendanceList = labAttendanceList.markLabAsAttended(1);
+        labAttendanceList = labAttendanceList.markLabAsAttended(2);
+        labAttendanceList = labAttendanceList.markLabAsAttended(3);
         assertEquals(4.0 / LabList.NUMBER_OF_LABS * 100, labAttendanceList.calculateLabAttendance());
 
     }
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+    }
+
+    @Test
+    public void search_shortKeyword_matchesSubstring() {
+        assertEquals(Set.of(ALICE.getStudentId()), index.search(SearchField.NAME, List.of("LIC")));
+        assertEquals(Set.of(BENSON.getStudentId(), CARL.getStudentId()),
+                index.search(SearchField.NAME, List.of("ei", "ar")));
+    }
+
+    @Test
+    public void search_keywordShorterThanGram_scansValues() {
+        assertEquals(Set.of(ALICE.getStudentId(), CARL.getStudentId()), index.search(SearchField.NAME, List.of("a")));
+        index.remove(CARL);
+        assertEquals(Set.of(ALICE.getStudentId()), index.search(SearchField.NAME, List.of("a")));
+    }
+
+    @Test
+    public void search_longKeyword_matchesSubstringOnly() {
+        assertEquals(Set.of(ALICE.getStudentId()), index.search(SearchField.NAME, List.of("ice paul")));
+        // every gram of the keyword is present, but not as one substring
+        assertEquals(Set.of(), index.search(SearchField.NAME, List.of("alicepau")));
+        assertEquals(Set.of(), index.search(SearchField.NAME, List.of("alice x")));
+    }
+
+    @Test
+    public void search_emptyKeyword_matchesAll() {
+        assertEquals(Set.of(ALICE.getStudentId(), BENSON.getStudentId(), CARL.getStudentId()),
+                index.search(SearchField.EMAIL, List.of("")));
+    }
+
+    @Test
+    public void search_tags_matchesAnyTag() {
+        assertEquals(Set.of(ALICE.getStudentId()), index.search(SearchField.TAG, List.of("upcoming")));
+    }
+
+    @Test
+    public void remove_person_noLongerMatches() {
+        index.remove(ALICE);
+        assertEquals(Set.of(), index.search(SearchField.NAME, List.of("alice")));
+        assertEquals(Set.of(BENSON.getStudentId()), index.search(SearchField.NAME, List.of("benson")));
+    }
+
+    @Test
+    public void update_editedPerson_matchesNewValues() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        index.update(ALICE, editedAlice);
+        assertEquals(Set.of(), index.search(SearchField.NAME, List.of("pauline")));
+        assertEquals(Set.of(ALICE.getStudentId()), index.search(SearchField.NAME, List.of("alicia")));
+    }
+
+    @Test
+    public void add_afterRemove_reusesDocumentWithoutStaleMatches() {
+        index.remove(ALICE);
+        index.add(DANIEL);
+        assertEquals(Set.of(), index.search(SearchField.NAME, List.of("alice")));
+        assertEquals(Set.of(DANIEL.getStudentId(), BENSON.getStudentId()),
+                index.search(SearchField.NAME, List.of("meier")));
+    }
+}
@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -94,6 +95,28 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void derivedMetrics_reflectComponents() {
+        LabList labList = new LabList();
+        labList = labList.markLabAsAttended(0);
+        labList = labList.markLabAsAttended(3);
+        ExerciseTracker tracker = new ExerciseTracker();
+        tracker = tracker.markExercise(Index.fromZeroBased(2), true);
+        GradeMap gradeMap = new GradeMap();
+        gradeMap.gradeExam("pe1", 20.0);
+        gradeMap.gradeExam("final", 100.0);
+
+        Person person = new Person(ALICE.getStudentId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getTags(), ALICE.getGithubUsername(), tracker, labList, gradeMap);
+        assertEquals(2, person.getLabsAttendedCount());
+        assertEquals(1, person.getExercisesDoneCount());
+        assertEquals(75.0, person.getAverageGrade());
+
+        Person ungraded = new PersonBuilder().build();
+        assertEquals(0, ungraded.getLabsAttendedCount());
+        assertEquals(-1.0, ungraded.getAverageGrade());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{studentId=" + ALICE.getStudentId()
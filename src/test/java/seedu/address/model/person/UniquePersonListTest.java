@@ -7,10 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +133,125 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_remainingPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void sort_afterSorting_personsStillFound() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort(Comparator.comparing(Person::getStudentId));
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void search_afterEditsFollowingSearch_resultReflectsEdits() {
+        uniquePersonList.add(ALICE);
+        Set<StudentId> aliceMatches = uniquePersonList.search(Map.of(SearchField.NAME, List.of("alice")));
+        Set<StudentId> carlMatches = uniquePersonList.search(Map.of(SearchField.NAME, List.of("carl")));
+        assertEquals(Set.of(ALICE.getStudentId()), aliceMatches);
+        assertEquals(Set.of(), carlMatches);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.add(CARL);
+        assertEquals(Set.of(), aliceMatches);
+        assertEquals(Set.of(CARL.getStudentId()), carlMatches);
+    }
+
+    @Test
+    public void indexOf_afterInsertAndRemove_currentPositions() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        uniquePersonList.add(0, CARL);
+        assertEquals(List.of(0, 1, 2), List.of(uniquePersonList.indexOf(CARL), uniquePersonList.indexOf(ALICE),
+                uniquePersonList.indexOf(BOB)));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+        // same identity but different fields is not found
+        assertEquals(-1, uniquePersonList.indexOf(new PersonBuilder(BOB).withName("Bob Tan").build()));
+    }
+
+    @Test
+    public void operations_largerRoster_readSameNumberOfStudentIds() {
+        // contains, setPerson, remove and add(int, Person) must not renumber or scan the rest of the list
+        assertEquals(countStudentIdReads(1000), countStudentIdReads(4000));
+    }
+
+    /**
+     * Returns the number of times {@code getStudentId()} is called on any person by a fixed sequence of operations
+     * on the first persons of a list of {@code size} persons.
+     */
+    private static long countStudentIdReads(int size) {
+        AtomicLong reads = new AtomicLong();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Person person = new PersonBuilder().withStudentId(String.format("A%07dX", i)).build();
+            persons.add(new CountingPerson(person, reads));
+        }
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        reads.set(0);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(list.contains(persons.get(i)));
+        }
+        for (int i = 0; i < 50; i++) {
+            Person edited = new CountingPerson(new PersonBuilder(persons.get(i)).withPhone("91234567").build(), reads);
+            list.setPerson(persons.get(i), edited);
+            list.remove(edited);
+        }
+        for (int i = 0; i < 50; i++) {
+            list.add(0, persons.get(i));
+        }
+        for (int i = 50; i < 100; i++) {
+            assertEquals(i, list.indexOf(persons.get(i)));
+        }
+        return reads.get();
+    }
+
+    /**
+     * A person that counts the reads of its student ID.
+     */
+    private static class CountingPerson extends Person {
+        private final AtomicLong reads;
+
+        CountingPerson(Person person, AtomicLong reads) {
+            super(person.getStudentId(), person.getName(), person.getPhone(), person.getEmail(), person.getTags(),
+                    person.getGithubUsername(), person.getExerciseTracker(), person.getLabAttendanceList(),
+                    person.getGradeMap());
+            this.reads = reads;
+        }
+
+        @Override
+        public StudentId getStudentId() {
+            reads.incrementAndGet();
+            return super.getStudentId();
+        }
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -0,0 +1,41 @@
+package seedu.address.model.person.sortcriterion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LabSortCriterionTest {
+
+    @Test
+    public void getComparator() {
+        Comparator<Person> comparator = new LabSortCriterion().getComparator();
+
+        LabList oneLab = new LabList();
+        oneLab = oneLab.markLabAsAttended(0);
+        LabList twoLabs = new LabList();
+        twoLabs = twoLabs.markLabAsAttended(0);
+        twoLabs = twoLabs.markLabAsAttended(1);
+        LabList otherLab = new LabList();
+        otherLab = otherLab.markLabAsAttended(5);
+
+        Person none = new PersonBuilder().build();
+        Person one = new PersonBuilder().withLabAttendanceList(oneLab.toString()).build();
+        Person two = new PersonBuilder().withLabAttendanceList(twoLabs.toString()).build();
+        Person otherOne = new PersonBuilder().withLabAttendanceList(otherLab.toString()).build();
+
+        // Most labs attended first
+        assertTrue(comparator.compare(two, one) < 0);
+        assertTrue(comparator.compare(one, none) < 0);
+        assertTrue(comparator.compare(none, two) > 0);
+
+        // Same number of labs attended
+        assertEquals(0, comparator.compare(one, otherOne));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private int notificationCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) change -> notificationCount++);
+    }
+
+    @Test
+    public void set_outsideBatch_notifiesEachChange() {
+        list.set(0, "x");
+        list.set(1, "y");
+        assertEquals(2, notificationCount);
+    }
+
+    @Test
+    public void set_insideBatch_notifiesOnceAtEnd() {
+        list.beginBatch();
+        list.set(0, "x");
+        list.set(1, "y");
+        list.remove(2);
+        assertEquals(List.of("x", "y"), list);
+        assertEquals(0, notificationCount);
+
+        list.endBatch();
+        assertEquals(1, notificationCount);
+    }
+
+    @Test
+    public void endBatch_nestedBatch_notifiesOnlyAtOutermostEnd() {
+        list.beginBatch();
+        list.beginBatch();
+        list.set(0, "x");
+        list.endBatch();
+        assertEquals(0, notificationCount);
+
+        list.set(1, "y");
+        list.endBatch();
+        assertEquals(1, notificationCount);
+    }
+
+    @Test
+    public void endBatch_noChanges_doesNotNotify() {
+        list.beginBatch();
+        list.endBatch();
+        assertEquals(0, notificationCount);
+    }
+}
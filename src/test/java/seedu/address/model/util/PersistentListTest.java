@@ -0,0 +1,75 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void of_list_preservesOrder() {
+        List<Integer> items = List.of(1, 2, 3, 4, 5);
+        assertEquals(items, PersistentList.of(items).asList());
+    }
+
+    @Test
+    public void add_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.empty().add(null));
+    }
+
+    @Test
+    public void updates_oldVersionUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> added = original.add("d");
+        PersistentList<String> replaced = original.set(1, "x");
+        PersistentList<String> removed = original.remove(0);
+
+        assertEquals(List.of("a", "b", "c"), original.asList());
+        assertEquals(List.of("a", "b", "c", "d"), added.asList());
+        assertEquals(List.of("a", "x", "c"), replaced.asList());
+        assertEquals(List.of("b", "c"), removed.asList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual.asList());
+        assertEquals(expected, new ArrayList<>(actual.asList()));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs.DataFormat;
+import seedu.address.model.Week;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setCurrentWeek(new Week(7));
+        original.removePerson(ALICE);
+        original.addPerson(withProgress(ALICE));
+
+        storage.saveAddressBook(original);
+        assertTrue(BinarySnapshotFormat.isBinaryAddressBook(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileFromJsonStorage_detected() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileFromBinaryStorage_detected() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void convertAddressBook_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+
+        DataFileConverter.convertAddressBook(jsonFile, binaryFile, DataFormat.BINARY);
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile));
+        DataFileConverter.convertAddressBook(binaryFile, jsonFile, DataFormat.JSON);
+        assertFalse(BinarySnapshotFormat.isBinaryAddressBook(jsonFile));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonFile).readAddressBook().get()));
+    }
+
+    private static Person withProgress(Person person) {
+        ExerciseTracker exerciseTracker = new ExerciseTracker();
+        exerciseTracker = exerciseTracker.markExercise(Index.fromZeroBased(3), true);
+        LabList labList = new LabList();
+        labList = labList.markLabAsAttended(0);
+        labList = labList.markLabAsAttended(9);
+        GradeMap gradeMap = new GradeMap();
+        gradeMap.gradeExam("midterm", 45);
+        gradeMap.gradeExam("final", 0);
+        return new Person(person.getStudentId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getTags(), person.getGithubUsername(), exerciseTracker, labList, gradeMap);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Timeslots;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+public class BinaryTimeslotsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveTimeslots_thenRead_sameTimeslots() throws Exception {
+        Path filePath = testFolder.resolve("timeslots.bin");
+        BinaryTimeslotsStorage storage = new BinaryTimeslotsStorage(filePath);
+        Timeslots original = new Timeslots();
+        original.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
+                LocalDateTime.of(2025, 10, 4, 12, 30)));
+        original.addTimeslot(new ConsultationTimeslot(LocalDateTime.of(2025, 10, 5, 14, 0),
+                LocalDateTime.of(2025, 10, 5, 15, 0), "Alex Yeoh"));
+        // times off a whole minute keep their full precision
+        original.addTimeslot(new Timeslot(LocalDateTime.of(1965, 1, 1, 8, 0, 15, 500),
+                LocalDateTime.of(1965, 1, 1, 9, 0)));
+
+        storage.saveTimeslots(original);
+        assertTrue(BinarySnapshotFormat.isBinaryTimeslots(filePath));
+        Timeslots read = new Timeslots(new JsonTimeslotsStorage(filePath).readTimeslots().get());
+        assertEquals(original, read);
+        assertTrue(read.getTimeslotList().stream().anyMatch(timeslot -> timeslot instanceof ConsultationTimeslot));
+    }
+
+    @Test
+    public void readTimeslots_jsonFileFromBinaryStorage_detected() throws Exception {
+        Path filePath = testFolder.resolve("timeslots.json");
+        Timeslots original = new Timeslots();
+        original.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
+                LocalDateTime.of(2025, 10, 4, 12, 0)));
+        new JsonTimeslotsStorage(filePath).saveTimeslots(original);
+        assertEquals(original, new Timeslots(new BinaryTimeslotsStorage(filePath).readTimeslots().get()));
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Timeslots;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.Timeslot;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonCommandJournalStorageTest {
+
+    private static final Timeslot TIMESLOT = new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
+            LocalDateTime.of(2025, 10, 4, 12, 0));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replayJournal_noJournal_returnsFalse() throws Exception {
+        JsonCommandJournalStorage journal = new JsonCommandJournalStorage(testFolder.resolve("none.journal"));
+        AddressBook addressBook = getTypicalAddressBook();
+        assertFalse(journal.replayJournal(addressBook, new Timeslots()));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void appendChanges_thenReplay_reproducesModel() throws Exception {
+        JsonCommandJournalStorage journal = new JsonCommandJournalStorage(testFolder.resolve("data.journal"));
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new Timeslots(), new UserPrefs());
+
+        model.saveAddressBook();
+        model.deletePerson(ALICE);
+        journal.appendChanges(model.takeUnsavedChanges(), model.getAddressBook(), model.getTimeslots());
+        model.saveAddressBook();
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        model.setPerson(BENSON, editedBenson);
+        model.setCurrentWeek(new Week(5));
+        model.addTimeslot(TIMESLOT);
+        journal.appendChanges(model.takeUnsavedChanges(), model.getAddressBook(), model.getTimeslots());
+        model.undoAddressBook();
+        journal.appendChanges(model.takeUnsavedChanges(), model.getAddressBook(), model.getTimeslots());
+
+        AddressBook replayedAddressBook = getTypicalAddressBook();
+        Timeslots replayedTimeslots = new Timeslots();
+        assertTrue(journal.replayJournal(replayedAddressBook, replayedTimeslots));
+        assertEquals(model.getAddressBook(), replayedAddressBook);
+        assertEquals(model.getTimeslots(), replayedTimeslots);
+    }
+
+    @Test
+    public void appendChanges_checkpointIntervalExceeded_replacesJournalWithCheckpoint() throws Exception {
+        Path journalFile = testFolder.resolve("data.journal");
+        JsonCommandJournalStorage journal = new JsonCommandJournalStorage(journalFile, 2);
+        ModelManager model = new ModelManager(new AddressBook(), new Timeslots(), new UserPrefs());
+
+        for (Person person : new Person[] {ALICE, BENSON, CARL}) {
+            model.addPerson(person);
+            journal.appendChanges(model.takeUnsavedChanges(), model.getAddressBook(), model.getTimeslots());
+        }
+        assertEquals(1, Files.readAllLines(journalFile).size());
+
+        // the checkpoint holds everything, so the data it is replayed over does not matter
+        AddressBook replayed = getTypicalAddressBook();
+        journal.replayJournal(replayed, new Timeslots());
+        assertEquals(model.getAddressBook(), replayed);
+    }
+
+    @Test
+    public void replayJournal_incompleteLastRecord_dropsRecord() throws Exception {
+        Path journalFile = testFolder.resolve("data.journal");
+        JsonCommandJournalStorage journal = new JsonCommandJournalStorage(journalFile);
+        ModelManager model = new ModelManager(new AddressBook(), new Timeslots(), new UserPrefs());
+        model.addPerson(ALICE);
+        journal.appendChanges(model.takeUnsavedChanges(), model.getAddressBook(), model.getTimeslots());
+        Files.writeString(journalFile, "{\"type\":\"personAdded\",\"ind", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        AddressBook replayed = new AddressBook();
+        assertTrue(new JsonCommandJournalStorage(journalFile).replayJournal(replayed, new Timeslots()));
+        assertEquals(model.getAddressBook(), replayed);
+
+        // the torn record is gone, so the journal can be appended to again
+        AddressBook replayedAgain = new AddressBook();
+        new JsonCommandJournalStorage(journalFile).replayJournal(replayedAgain, new Timeslots());
+        assertEquals(model.getAddressBook(), replayedAgain);
+    }
+
+    @Test
+    public void replayJournal_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path journalFile = testFolder.resolve("data.journal");
+        Files.writeString(journalFile, "{\"type\":\"unknown\"}\n{\"type\":\"weekChanged\",\"week\":3}\n");
+        JsonCommandJournalStorage journal = new JsonCommandJournalStorage(journalFile);
+        assertThrows(DataLoadingException.class, () -> journal.replayJournal(new AddressBook(), new Timeslots()));
+    }
+
+    @Test
+    public void saveChanges_journaling_writesOnlyJournalUntilCompacted() throws Exception {
+        Path addressBookFile = testFolder.resolve("ab.json");
+        Path timeslotsFile = testFolder.resolve("ts.json");
+        JsonCommandJournalStorage journal = new JsonCommandJournalStorage(testFolder.resolve("ab.journal"));
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFile),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")), new JsonTimeslotsStorage(timeslotsFile),
+                journal, true);
+        ModelManager model = new ModelManager(new AddressBook(), new Timeslots(), new UserPrefs());
+
+        model.addPerson(ALICE);
+        storage.saveChanges(model.takeUnsavedChanges(), model.getAddressBook(), model.getAddressBookVersion(),
+                model.getTimeslots(), model.getTimeslotsVersion());
+        assertFalse(Files.exists(addressBookFile));
+        assertTrue(Files.exists(journal.getJournalFilePath()));
+
+        storage.compactJournal(model.getAddressBook(), model.getTimeslots());
+        assertFalse(Files.exists(journal.getJournalFilePath()));
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonRecordConverterTest {
+
+    private static final int RECORD_COUNT = PersonRecordConverter.PARALLEL_THRESHOLD * 2;
+
+    @Test
+    public void convert_parallelBatch_personsAddedInRecordOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Person person = new PersonBuilder().withStudentId(String.format("A%07dX", i)).build();
+            expected.add(person);
+            records.add(new JsonAdaptedPerson(person));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        PersonRecordConverter converter = new PersonRecordConverter(addressBook);
+        converter.convert(records.subList(0, 10));
+        // each batch is in the address book as soon as it is converted
+        assertEquals(expected.subList(0, 10), addressBook.getPersonList());
+        converter.convert(records.subList(10, RECORD_COUNT));
+        converter.finish();
+        assertEquals(expected, addressBook.getPersonList());
+    }
+
+    @Test
+    public void finish_invalidRecords_reportsAllInvalidRecords() {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(i % 100 == 0 ? invalidPhoneRecord() : new JsonAdaptedPerson(
+                    new PersonBuilder().withStudentId(String.format("A%07dX", i)).build()));
+        }
+        PersonRecordConverter converter = new PersonRecordConverter(new AddressBook());
+        converter.convert(records);
+
+        int invalidCount = (RECORD_COUNT + 99) / 100;
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(PersonRecordConverter.MESSAGE_INVALID_PERSONS, invalidCount));
+        for (int i = 0; i < PersonRecordConverter.MAX_REPORTED_ERRORS; i++) {
+            expectedMessage.append(String.format(PersonRecordConverter.MESSAGE_INVALID_RECORD, i * 100 + 1,
+                    Phone.MESSAGE_CONSTRAINTS));
+        }
+        expectedMessage.append(String.format(PersonRecordConverter.MESSAGE_MORE_INVALID_RECORDS,
+                invalidCount - PersonRecordConverter.MAX_REPORTED_ERRORS));
+        assertThrows(IllegalValueException.class, expectedMessage.toString(), converter::finish);
+    }
+
+    @Test
+    public void finish_duplicateStudentIds_throwsIllegalValueException() {
+        PersonRecordConverter converter = new PersonRecordConverter(new AddressBook());
+        converter.convert(List.of(new JsonAdaptedPerson(ALICE)));
+        converter.convert(List.of(new JsonAdaptedPerson(new PersonBuilder(ALICE).withName("Alice Other").build())));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                converter::finish);
+    }
+
+    private static JsonAdaptedPerson invalidPhoneRecord() {
+        return new JsonAdaptedPerson(ALICE.getStudentId().value, ALICE.getName().fullName, "+651234",
+                ALICE.getEmail().value, new ArrayList<>(), ALICE.getGithubUsername().value,
+                ALICE.getLabAttendanceList().toString(), new HashMap<>());
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Timeslots;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.history.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        // an unsharded storage reads it whole
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_personEdited_rewritesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new Timeslots(), new UserPrefs());
+        Files.delete(filePath);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Files.deleteIfExists(ShardedAddressBookStorage.getShardFilePath(filePath, shard));
+        }
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        model.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeUnsavedChanges());
+
+        int aliceShard = ShardedAddressBookStorage.shardOf(ALICE.getStudentId(), SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Path shardFile = ShardedAddressBookStorage.getShardFilePath(filePath, shard);
+            assertEquals(shard == aliceShard, Files.exists(shardFile));
+        }
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_studentIdMovesPersonToLaterShard_writesGainingShardFirst() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new Timeslots(), new UserPrefs());
+
+        Person movedAlice = new PersonBuilder(ALICE).withStudentId("A0000003Y").build();
+        int fromShard = ShardedAddressBookStorage.shardOf(ALICE.getStudentId(), SHARD_COUNT);
+        int toShard = ShardedAddressBookStorage.shardOf(movedAlice.getStudentId(), SHARD_COUNT);
+        assertTrue(fromShard < toShard);
+        model.setPerson(ALICE, movedAlice);
+        List<ModelChange> changes = model.takeUnsavedChanges();
+
+        // saving stops at the shard gaining the person, before the shard losing it is written
+        Path toShardFile = ShardedAddressBookStorage.getShardFilePath(filePath, toShard);
+        Files.delete(toShardFile);
+        Files.createDirectory(toShardFile);
+        assertThrows(IOException.class, () -> storage.saveAddressBookChanges(model.getAddressBook(), changes));
+        Files.delete(toShardFile);
+        assertTrue(storage.readAddressBook().get().getPersonList().contains(ALICE));
+
+        storage.saveAddressBookChanges(model.getAddressBook(), changes);
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_unshardedFile_savesAllShards() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new Timeslots(), new UserPrefs());
+
+        model.deletePerson(ALICE);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeUnsavedChanges());
+
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, shard)));
+        }
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+}
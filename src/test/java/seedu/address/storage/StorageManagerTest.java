@@ -1,11 +1,22 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.timeslot.Timeslot;
 
 public class StorageManagerTest {
@@ -81,6 +93,54 @@ public class StorageManagerTest {
         assertEquals(original, new Timeslots(retrieved));
     }
 
+    @Test
+    public void saveChanges_versionsUnchanged_writesNothing() throws Exception {
+        storageManager.saveChanges(List.of(), getTypicalAddressBook(), 0, new Timeslots(), 0);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+        assertFalse(Files.exists(storageManager.getTimeslotsFilePath()));
+    }
+
+    @Test
+    public void saveChanges_onlyTimeslotsVersionAdvanced_writesOnlyTimeslots() throws Exception {
+        storageManager.saveChanges(List.of(), getTypicalAddressBook(), 0, new Timeslots(), 1);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+        assertTrue(Files.exists(storageManager.getTimeslotsFilePath()));
+    }
+
+    @Test
+    public void saveChanges_writeBehind_savesLatestDataOnFlush() throws Exception {
+        storageManager.startWriteBehind();
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getTypicalPersons()) {
+            addressBook.addPerson(person);
+            storageManager.saveChanges(List.of(), addressBook.snapshot(), addressBook.getPersonList().size(),
+                    new Timeslots(), 0);
+        }
+        storageManager.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChanges_writeBehindFails_listenerToldAndRetriedOnFlush() throws Exception {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        StorageManager storage = new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonTimeslotsStorage(getTempFilePath("ts")));
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        storage.setSaveFailureListener(reportedFailure::complete);
+        storage.startWriteBehind();
+        assertDoesNotThrow(() -> storage.saveChanges(List.of(), getTypicalAddressBook(), 1, new Timeslots(), 0));
+        assertEquals("dummy IO exception", reportedFailure.get(10, TimeUnit.SECONDS).getMessage());
+
+        // the failure is not blamed on the next save, but the failed save is still retried
+        assertDoesNotThrow(() -> storage.saveChanges(List.of(), getTypicalAddressBook(), 2, new Timeslots(), 0));
+        assertThrows(IOException.class, storage::flush);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -91,4 +151,27 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getTimeslotsFilePath());
     }
 
+    @Test
+    public void compactJournal_noChangesAndNotJournaling_dataFilesNotRewritten() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonTimeslotsStorage(getTempFilePath("ts")),
+                new JsonCommandJournalStorage(getTempFilePath("journal")), false);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveTimeslots(new Timeslots());
+        FileTime savedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(storage.getAddressBookFilePath(), savedTime);
+        Files.setLastModifiedTime(storage.getTimeslotsFilePath(), savedTime);
+
+        // A session that only read the data, stopped as the app does
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Timeslots timeslots = new Timeslots(storage.readTimeslots().get());
+        storage.replayJournal(addressBook, timeslots);
+        storage.startWriteBehind();
+        storage.flush();
+        storage.compactJournal(addressBook, timeslots);
+
+        assertEquals(savedTime, Files.getLastModifiedTime(storage.getAddressBookFilePath()));
+        assertEquals(savedTime, Files.getLastModifiedTime(storage.getTimeslotsFilePath()));
+        assertFalse(Files.exists(getTempFilePath("journal")));
+    }
 }